@@ -5,9 +5,9 @@
 
 echo "🐳 Executando testes Dog API com Docker..."
 
-# Limpar diretório target
+# Limpar diretório target (preservando o arquivo AppCDS do perfil fast-start)
 echo "🧹 Limpando diretório target..."
-rm -rf target
+find target -mindepth 1 -maxdepth 1 ! -name 'dogapi-tests.jsa' -exec rm -rf {} + 2>/dev/null || true
 mkdir -p target
 
 # Executar testes no Docker com correção automática de permissões
@@ -17,7 +17,7 @@ if docker run --rm \
     -v $(pwd):/workspace \
     -w /workspace \
     openjdk:21-jdk-slim \
-    bash -c "apt-get update -qq && apt-get install -y -qq maven && mvn clean test"; then
+    bash -c "apt-get update -qq && apt-get install -y -qq maven && mvn -Pfast-start test"; then
     
     # Se Maven executou com sucesso, corrigir permissões
     echo "🔧 Corrigindo permissões dos arquivos gerados..."
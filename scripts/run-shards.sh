@@ -0,0 +1,184 @@
+#!/bin/bash
+
+# Script para executar a suíte Dog API dividida em shards
+# Uso: ./run-shards.sh [opcoes]
+#
+# Opções:
+#   --help, -h          Mostra esta mensagem de ajuda
+#   --shards N          Número de shards (padrão: 2)
+#   --mode MODO         class ou method (padrão: class)
+#   --index I           Executa apenas o shard I (uso em nós de CI)
+#   --merge-only        Apenas mescla os resultados já existentes em target/shards
+#   --history DIR       Diretório com resultados anteriores (padrão: target/shard-history)
+
+set -e
+
+# Cores para output
+RED='\033[0;31m'
+GREEN='\033[0;32m'
+YELLOW='\033[1;33m'
+BLUE='\033[0;34m'
+NC='\033[0m' # No Color
+
+# Variáveis
+SHARDS=2
+MODE="class"
+INDEX=""
+MERGE_ONLY=false
+HISTORY_DIR="target/shard-history"
+SHARDS_DIR="target/shards"
+
+# Função para mostrar ajuda
+show_help() {
+    echo "Script para executar a suíte Dog API dividida em shards"
+    echo ""
+    echo "Uso: $0 [opções]"
+    echo ""
+    echo "Opções:"
+    echo "  --help, -h          Mostra esta mensagem de ajuda"
+    echo "  --shards N          Número de shards (padrão: 2)"
+    echo "  --mode MODO         class ou method (padrão: class)"
+    echo "  --index I           Executa apenas o shard I (uso em nós de CI)"
+    echo "  --merge-only        Apenas mescla os resultados já existentes em $SHARDS_DIR"
+    echo "  --history DIR       Resultados anteriores usados como pesos (padrão: $HISTORY_DIR)"
+    echo ""
+    echo "Exemplos:"
+    echo "  $0 --shards 4                    # Planeja e executa 4 shards em paralelo localmente"
+    echo "  $0 --shards 3 --mode method      # Divide por método em vez de classe"
+    echo "  $0 --shards 3 --index 2          # Executa somente o shard 2 de 3"
+    echo ""
+}
+
+# Função para log colorido
+log() {
+    local color=$1
+    local message=$2
+    echo -e "${color}[$(date +'%Y-%m-%d %H:%M:%S')] ${message}${NC}"
+}
+
+# Gera os XMLs dos shards a partir do testng.xml e do histórico
+plan_shards() {
+    log $BLUE "Planejando $SHARDS shards (modo: $MODE)..."
+    mvn -q test-compile exec:java \
+        -Dexec.classpathScope=test \
+        -Dexec.mainClass=dogapi.execution.ShardPlanner \
+        -Dexec.args="--shards $SHARDS --mode $MODE --history $HISTORY_DIR --out $SHARDS_DIR"
+    cat "$SHARDS_DIR/plan.tsv"
+}
+
+# Executa um shard com diretórios de saída isolados
+run_shard() {
+    local index=$1
+    local output="$SHARDS_DIR/shard-$index"
+    rm -rf "$output"
+    mkdir -p "$output"
+    # Falhas de teste são decididas na mesclagem; o status do shard cobre apenas erros de build
+    mvn -q surefire:test \
+        -Dtestng.suite="$SHARDS_DIR/shard-$index.xml" \
+        -Dallure.results.dir="$(pwd)/$output/allure-results" \
+        -Dsurefire.reports.dir="$(pwd)/$output/surefire-reports" \
+        -Dmaven.test.failure.ignore=true \
+        > "$output/console.log" 2>&1
+}
+
+# Mescla os resultados de todos os shards em target/
+# Retorna 1 se algum teste falhou (o merger sai com erro sobre os totais mesclados)
+merge_results() {
+    log $BLUE "Mesclando resultados dos shards..."
+    rm -rf target/allure-results target/surefire-reports
+    local status=0
+    mvn -q exec:java \
+        -Dexec.mainClass=dogapi.execution.ShardResultMerger \
+        -Dexec.args="--out target $(ls -d $SHARDS_DIR/shard-*/ | tr '\n' ' ')" || status=$?
+
+    # Guarda os tempos desta execução para o próximo planejamento, mesmo com falhas
+    if [ -f target/surefire-reports/TEST-TestSuite.xml ]; then
+        mkdir -p "$HISTORY_DIR"
+        cp target/surefire-reports/TEST-TestSuite.xml "$HISTORY_DIR/TEST-TestSuite.xml"
+        log $GREEN "Relatórios mesclados em target/allure-results e target/surefire-reports"
+    fi
+    return $status
+}
+
+# Parse dos argumentos
+while [[ $# -gt 0 ]]; do
+    case $1 in
+        --help|-h)
+            show_help
+            exit 0
+            ;;
+        --shards)
+            SHARDS="$2"
+            shift 2
+            ;;
+        --mode)
+            MODE="$2"
+            shift 2
+            ;;
+        --index)
+            INDEX="$2"
+            shift 2
+            ;;
+        --merge-only)
+            MERGE_ONLY=true
+            shift
+            ;;
+        --history)
+            HISTORY_DIR="$2"
+            shift 2
+            ;;
+        *)
+            log $RED "Opção desconhecida: $1"
+            show_help
+            exit 1
+            ;;
+    esac
+done
+
+if [ "$MERGE_ONLY" = true ]; then
+    if ! merge_results; then
+        log $RED "❌ Testes falharam nos shards (veja target/surefire-reports/TEST-TestSuite.xml)"
+        exit 1
+    fi
+    exit 0
+fi
+
+plan_shards
+
+if [ ! -z "$INDEX" ]; then
+    log $BLUE "Executando shard $INDEX/$SHARDS..."
+    run_shard "$INDEX"
+    log $GREEN "Shard $INDEX concluído (log em $SHARDS_DIR/shard-$INDEX/console.log)"
+    exit 0
+fi
+
+# Executa todos os shards em processos paralelos
+start=$(date +%s)
+pids=()
+for i in $(seq 1 "$SHARDS"); do
+    log $YELLOW "Iniciando shard $i/$SHARDS..."
+    run_shard "$i" &
+    pids+=($!)
+done
+
+failed=false
+for pid in "${pids[@]}"; do
+    wait "$pid" || failed=true
+done
+log $BLUE "Shards concluídos em $(( $(date +%s) - start ))s"
+
+tests_failed=false
+merge_results || tests_failed=true
+
+if [ "$failed" = true ]; then
+    log $RED "❌ Ao menos um shard falhou ao executar (veja $SHARDS_DIR/shard-*/console.log)"
+    exit 1
+fi
+if [ "$tests_failed" = true ]; then
+    log $RED "❌ Testes falharam nos shards (veja target/surefire-reports/TEST-TestSuite.xml)"
+    exit 1
+fi
+
+echo ""
+log $GREEN "✅ Execução em shards concluída!"
+echo ""
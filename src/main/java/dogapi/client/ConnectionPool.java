@@ -0,0 +1,49 @@
+package dogapi.client;
+
+import io.restassured.config.HttpClientConfig;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+
+/**
+ * Pool de conexões HTTP compartilhado pelas requisições do REST Assured.
+ *
+ * Por padrão o REST Assured cria um {@code DefaultHttpClient} com conexão própria a cada
+ * requisição, repetindo o handshake TLS. Aqui cada requisição continua recebendo um client
+ * novo (o REST Assured altera os interceptors do client a cada uso), mas todos compartilham
+ * o mesmo gerenciador de conexões, então as conexões keep-alive são reaproveitadas.
+ */
+@SuppressWarnings("deprecation")
+public final class ConnectionPool {
+
+    private static final int MAX_TOTAL = 50;
+    private static final int MAX_PER_ROUTE = 20;
+
+    private static final PoolingClientConnectionManager MANAGER = createManager();
+
+    private ConnectionPool() {
+        // Classe utilitária - construtor privado
+    }
+
+    private static PoolingClientConnectionManager createManager() {
+        PoolingClientConnectionManager manager = new PoolingClientConnectionManager();
+        manager.setMaxTotal(MAX_TOTAL);
+        manager.setDefaultMaxPerRoute(MAX_PER_ROUTE);
+        return manager;
+    }
+
+    /**
+     * Configuração do REST Assured que usa o pool compartilhado.
+     */
+    public static HttpClientConfig httpClientConfig() {
+        return HttpClientConfig.httpClientConfig()
+                .httpClientFactory(() -> new DefaultHttpClient(MANAGER));
+    }
+
+    /**
+     * Estatísticas atuais do pool (conexões em uso, disponíveis e pendentes).
+     */
+    public static PoolStats stats() {
+        return MANAGER.getTotalStats();
+    }
+}
@@ -1,37 +1,152 @@
 package dogapi.client;
 
+import dogapi.jfr.ClientCallEvent;
 import dogapi.model.BreedImagesResponse;
 import dogapi.model.BreedsListResponse;
 import dogapi.model.RandomImageResponse;
-import dogapi.util.AllureRestAssuredFilter;
+import dogapi.model.RandomImagesResponse;
+import dogapi.transport.DogApiTransport;
+import dogapi.transport.RestAssuredTransport;
+import dogapi.transport.TransportResponse;
+import dogapi.util.JsonMapper;
 import io.qameta.allure.Step;
 import io.restassured.RestAssured;
+import io.restassured.config.ObjectMapperConfig;
 import io.restassured.parsing.Parser;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
 
-import static io.restassured.RestAssured.given;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
 
 /**
- * Cliente para interação com a Dog API
+ * Cliente para interação com a Dog API.
+ *
+ * Os métodos que devolvem {@link Response} usam sempre o REST Assured (os testes validam
+ * headers e tempos por ele). Os métodos {@code *AsObject} passam pelo {@link DogApiTransport}
+ * configurado, que por padrão também é o REST Assured.
  */
 public class DogApiClient {
 
-    private static final String BASE_URL = "https://dog.ceo/api";
+    public static final String BASE_URL = "https://dog.ceo/api";
+
+    public static final String BREEDS_LIST = "/breeds/list/all";
+    public static final String BREED_IMAGES = "/breed/{breed}/images";
+    public static final String SUB_BREED_IMAGES = "/breed/{breed}/{subbreed}/images";
+    public static final String RANDOM_IMAGE = "/breeds/image/random";
+    public static final String RANDOM_IMAGES = "/breeds/image/random/{count}";
+
+    /**
+     * Compartilhado entre instâncias: testes paralelos com clientes próprios também são coalescidos
+     */
+    private static final SingleFlight IN_FLIGHT = new SingleFlight();
+
+    private final DogApiTransport transport;
 
     public DogApiClient() {
+        this(new RestAssuredTransport(BASE_URL));
+    }
+
+    /**
+     * A configuração global do REST Assured só é alterada quando o transporte é o
+     * {@link RestAssuredTransport}: um cliente com outro transporte (ex.: apontando para o
+     * servidor local) não muda a URL nem a configuração dos demais usuários do REST Assured.
+     */
+    public DogApiClient(DogApiTransport transport) {
+        this.transport = transport;
+        if (!(transport instanceof RestAssuredTransport)) {
+            return;
+        }
         RestAssured.baseURI = BASE_URL;
         RestAssured.defaultParser = Parser.JSON;
+        RestAssured.config = RestAssured.config()
+                .httpClient(ConnectionPool.httpClientConfig())
+                .objectMapperConfig(ObjectMapperConfig.objectMapperConfig()
+                        .jackson2ObjectMapperFactory((type, charset) -> JsonMapper.shared()));
+    }
+
+    public DogApiTransport getTransport() {
+        return transport;
     }
 
     /**
      * Configura especificação base para requisições
      */
     private RequestSpecification getRequestSpecification() {
-        return given()
-                .contentType("application/json")
-                .filter(new AllureRestAssuredFilter())
-                .log().all();
+        return RestAssuredTransport.specification(transport.getBaseUrl());
+    }
+
+    /**
+     * Executa a requisição e converte o corpo para o modelo, emitindo um {@link ClientCallEvent}
+     */
+    private <T> T mapped(String operation, Supplier<TransportResponse> request, Class<T> type) {
+        return mapped(operation, request, type, () -> false);
+    }
+
+    /**
+     * Como {@link #mapped(String, Supplier, Class)}; {@code coalesced} informa, ao fim da chamada,
+     * se a resposta veio de uma requisição de outra thread
+     */
+    private <T> T mapped(String operation, Supplier<TransportResponse> request, Class<T> type,
+                         BooleanSupplier coalesced) {
+        ClientCallEvent event = new ClientCallEvent();
+        event.begin();
+        long requestStart = System.nanoTime();
+        try {
+            TransportResponse response = request.get();
+            long mappingStart = System.nanoTime();
+            T result = readModel(operation, response, type);
+            if (event.shouldCommit()) {
+                event.statusCode = response.statusCode();
+                event.requestNanos = mappingStart - requestStart;
+                event.mappingNanos = System.nanoTime() - mappingStart;
+            }
+            return result;
+        } catch (Throwable e) {
+            event.error = e.toString();
+            throw e;
+        } finally {
+            if (event.shouldCommit()) {
+                event.operation = operation;
+                event.modelType = type.getSimpleName();
+                event.transport = transport.getName();
+                event.coalesced = coalesced.getAsBoolean();
+                event.commit();
+            }
+        }
+    }
+
+    private static <T> T readModel(String operation, TransportResponse response, Class<T> type) {
+        try {
+            return JsonMapper.shared().readValue(response.body(), type);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao converter resposta de " + operation + " (status "
+                    + response.statusCode() + ") para " + type.getSimpleName(), e);
+        }
+    }
+
+    /**
+     * Executa a chamada convertida para objeto, compartilhando a resposta HTTP com chamadas
+     * idênticas simultâneas (ver {@link SingleFlight}). Cada chamador converte o corpo para o
+     * seu próprio modelo: os modelos são mutáveis e não podem ser compartilhados entre threads.
+     */
+    private <T> T coalesced(String operation, String params, Supplier<TransportResponse> request, Class<T> type) {
+        String key = transport.getBaseUrl() + " " + operation + ":" + params;
+        boolean[] executed = new boolean[1];
+        return mapped(operation, () -> IN_FLIGHT.execute(key, () -> {
+            executed[0] = true;
+            return request.get();
+        }), type, () -> !executed[0]);
+    }
+
+    /**
+     * Estatísticas de chamadas executadas e coalescidas
+     */
+    public static SingleFlight coalescing() {
+        return IN_FLIGHT;
     }
 
     /**
@@ -42,7 +157,7 @@ public class DogApiClient {
     public Response getAllBreeds() {
         return getRequestSpecification()
                 .when()
-                .get("/breeds/list/all")
+                .get(BREEDS_LIST)
                 .then()
                 .log().all()
                 .extract()
@@ -50,10 +165,12 @@ public class DogApiClient {
     }
 
     /**
-     * Busca lista de todas as raças e converte para objeto
+     * Busca lista de todas as raças e converte para objeto.
+     * Chamadas simultâneas compartilham a mesma requisição; cada uma recebe o seu objeto.
      */
+    @Step("🐕 Buscar todas as raças como BreedsListResponse")
     public BreedsListResponse getAllBreedsAsObject() {
-        return getAllBreeds().as(BreedsListResponse.class);
+        return coalesced("getAllBreeds", "", () -> transport.get(BREEDS_LIST, Map.of()), BreedsListResponse.class);
     }
 
     /**
@@ -65,7 +182,7 @@ public class DogApiClient {
         return getRequestSpecification()
                 .pathParam("breed", breed)
                 .when()
-                .get("/breed/{breed}/images")
+                .get(BREED_IMAGES)
                 .then()
                 .log().all()
                 .extract()
@@ -73,10 +190,13 @@ public class DogApiClient {
     }
 
     /**
-     * Busca imagens de uma raça específica e converte para objeto
+     * Busca imagens de uma raça específica e converte para objeto.
+     * Chamadas simultâneas para a mesma raça compartilham a mesma requisição; cada uma recebe o seu objeto.
      */
+    @Step("🖼️ Buscar imagens da raça como BreedImagesResponse: {breed}")
     public BreedImagesResponse getBreedImagesAsObject(String breed) {
-        return getBreedImages(breed).as(BreedImagesResponse.class);
+        return coalesced("getBreedImages", breed,
+                () -> transport.get(BREED_IMAGES, Map.of("breed", breed)), BreedImagesResponse.class);
     }
 
     /**
@@ -87,7 +207,7 @@ public class DogApiClient {
     public Response getRandomImage() {
         return getRequestSpecification()
                 .when()
-                .get("/breeds/image/random")
+                .get(RANDOM_IMAGE)
                 .then()
                 .log().all()
                 .extract()
@@ -97,8 +217,9 @@ public class DogApiClient {
     /**
      * Busca uma imagem aleatória e converte para objeto
      */
+    @Step("🎲 Buscar imagem aleatória como RandomImageResponse")
     public RandomImageResponse getRandomImageAsObject() {
-        return getRandomImage().as(RandomImageResponse.class);
+        return mapped("getRandomImage", () -> transport.get(RANDOM_IMAGE, Map.of()), RandomImageResponse.class);
     }
 
     /**
@@ -110,7 +231,7 @@ public class DogApiClient {
                 .pathParam("breed", breed)
                 .pathParam("subbreed", subBreed)
                 .when()
-                .get("/breed/{breed}/{subbreed}/images")
+                .get(SUB_BREED_IMAGES)
                 .then()
                 .log().all()
                 .extract()
@@ -125,10 +246,18 @@ public class DogApiClient {
         return getRequestSpecification()
                 .pathParam("count", count)
                 .when()
-                .get("/breeds/image/random/{count}")
+                .get(RANDOM_IMAGES)
                 .then()
                 .log().all()
                 .extract()
                 .response();
     }
+
+    /**
+     * Busca múltiplas imagens aleatórias e converte para objeto
+     */
+    public RandomImagesResponse getRandomImagesAsObject(int count) {
+        return mapped("getRandomImages", () -> transport.get(RANDOM_IMAGES, Map.of("count", count)),
+                RandomImagesResponse.class);
+    }
 }
\ No newline at end of file
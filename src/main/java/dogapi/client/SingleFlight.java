@@ -0,0 +1,82 @@
+package dogapi.client;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Deduplicação de chamadas simultâneas idênticas ("single-flight").
+ *
+ * A primeira thread a chamar {@link #execute(String, Supplier)} para uma chave executa a
+ * chamada; as que chegam enquanto ela está em andamento aguardam e recebem o mesmo resultado
+ * (ou a mesma exceção). Terminada a chamada a chave é liberada: não há cache de resultados.
+ *
+ * O registro usa {@code putIfAbsent} no {@link ConcurrentHashMap} e a contagem usa
+ * {@link LongAdder}, sem locks. O resultado é compartilhado entre as threads: use apenas com
+ * valores imutáveis (o {@code DogApiClient} compartilha a resposta HTTP, não o modelo).
+ */
+public class SingleFlight {
+
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Supplier<T> call) {
+        CompletableFuture<Object> existing = inFlight.get(key);
+        if (existing == null) {
+            CompletableFuture<Object> mine = new CompletableFuture<>();
+            existing = inFlight.putIfAbsent(key, mine);
+            if (existing == null) {
+                return (T) lead(key, mine, call);
+            }
+        }
+        coalesced.increment();
+        try {
+            return (T) existing.join();
+        } catch (CompletionException e) {
+            throw SingleFlight.<RuntimeException>rethrow(e.getCause());
+        }
+    }
+
+    private Object lead(String key, CompletableFuture<Object> future, Supplier<?> call) {
+        executed.increment();
+        try {
+            Object result = call.get();
+            future.complete(result);
+            return result;
+        } catch (Throwable e) {
+            // Inclui IOException não declarada do REST Assured
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    /**
+     * Propaga a exceção original (mesmo checked) para as threads que aguardavam.
+     */
+    @SuppressWarnings("unchecked")
+    private static <E extends Throwable> E rethrow(Throwable e) throws E {
+        throw (E) e;
+    }
+
+    /** Chamadas efetivamente executadas. */
+    public long getExecutedCalls() {
+        return executed.sum();
+    }
+
+    /** Chamadas atendidas pelo resultado de outra já em andamento. */
+    public long getCoalescedCalls() {
+        return coalesced.sum();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("executadas: %d, coalescidas: %d", getExecutedCalls(), getCoalescedCalls());
+    }
+}
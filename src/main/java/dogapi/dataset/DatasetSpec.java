@@ -0,0 +1,32 @@
+package dogapi.dataset;
+
+/**
+ * Parâmetros de um dataset sintético.
+ *
+ * @param breeds       quantidade de raças
+ * @param images       total de URLs de imagens, distribuídas igualmente entre as raças
+ * @param maxSubBreeds máximo de sub-raças por raça (cerca de uma raça em cinco tem sub-raças)
+ * @param seed         semente; a mesma especificação gera sempre os mesmos arquivos
+ */
+public record DatasetSpec(int breeds, long images, int maxSubBreeds, long seed) {
+
+    public DatasetSpec {
+        if (breeds < 1) {
+            throw new IllegalArgumentException("Número de raças deve ser maior que zero: " + breeds);
+        }
+        if (images < 0) {
+            throw new IllegalArgumentException("Número de imagens não pode ser negativo: " + images);
+        }
+        if (maxSubBreeds < 0) {
+            throw new IllegalArgumentException("Máximo de sub-raças não pode ser negativo: " + maxSubBreeds);
+        }
+    }
+
+    /**
+     * Imagens da raça de índice {@code breed}: a divisão inteira, mais uma para as primeiras
+     * raças até esgotar o resto.
+     */
+    public long imagesOf(int breed) {
+        return images / breeds + (breed < images % breeds ? 1 : 0);
+    }
+}
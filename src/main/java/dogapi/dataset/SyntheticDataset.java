@@ -0,0 +1,143 @@
+package dogapi.dataset;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import dogapi.model.BreedImagesResponse;
+import dogapi.model.BreedsListResponse;
+import dogapi.util.JsonMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Dataset sintético gravado em disco por {@link SyntheticDatasetGenerator}.
+ *
+ * Os arquivos seguem os caminhos da API, com o corpo exato das respostas:
+ * <pre>
+ * manifest.json
+ * breeds/list/all.json
+ * breed/{breed}/images.json
+ * breed/{breed}/{subbreed}/images.json
+ * </pre>
+ * Assim o diretório pode ser servido pelo {@code LocalDogApiServer} ou lido diretamente nos
+ * modelos. Para raças com muitas imagens, {@link #forEachImage(String, Consumer)} percorre as
+ * URLs sem carregar a lista inteira.
+ */
+public class SyntheticDataset {
+
+    static final String MANIFEST = "manifest.json";
+
+    private final Path directory;
+    private final DatasetSpec spec;
+    private final long subBreeds;
+    private final long bytes;
+
+    SyntheticDataset(Path directory, DatasetSpec spec, long subBreeds, long bytes) {
+        this.directory = directory;
+        this.spec = spec;
+        this.subBreeds = subBreeds;
+        this.bytes = bytes;
+    }
+
+    /**
+     * Abre um dataset já gerado, a partir do {@code manifest.json}.
+     */
+    public static SyntheticDataset open(Path directory) throws IOException {
+        JsonNode manifest = JsonMapper.shared().readTree(directory.resolve(MANIFEST).toFile());
+        DatasetSpec spec = new DatasetSpec(manifest.path("breeds").asInt(), manifest.path("images").asLong(),
+                manifest.path("maxSubBreeds").asInt(), manifest.path("seed").asLong());
+        return new SyntheticDataset(directory, spec, manifest.path("subBreeds").asLong(),
+                manifest.path("bytes").asLong());
+    }
+
+    void writeManifest() throws IOException {
+        Map<String, Object> manifest = new LinkedHashMap<>();
+        manifest.put("breeds", spec.breeds());
+        manifest.put("images", spec.images());
+        manifest.put("maxSubBreeds", spec.maxSubBreeds());
+        manifest.put("seed", spec.seed());
+        manifest.put("subBreeds", subBreeds);
+        manifest.put("bytes", bytes);
+        JsonMapper.shared().writerWithDefaultPrettyPrinter().writeValue(directory.resolve(MANIFEST).toFile(), manifest);
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public DatasetSpec getSpec() {
+        return spec;
+    }
+
+    /** Total de sub-raças geradas. */
+    public long getSubBreedCount() {
+        return subBreeds;
+    }
+
+    /** Tamanho total dos arquivos de respostas. */
+    public long getSizeBytes() {
+        return bytes;
+    }
+
+    /**
+     * Arquivo com a resposta do caminho da API (ex.: {@code /breed/abc/images}).
+     */
+    public Path file(String apiPath) {
+        return directory.resolve(apiPath.substring(1) + ".json");
+    }
+
+    public Path breedsFile() {
+        return file("/breeds/list/all");
+    }
+
+    public Path breedImagesFile(String breed) {
+        return file("/breed/" + breed + "/images");
+    }
+
+    public Path subBreedImagesFile(String breed, String subBreed) {
+        return file("/breed/" + breed + "/" + subBreed + "/images");
+    }
+
+    /**
+     * Lista de raças no modelo da API (carrega o catálogo inteiro em memória).
+     */
+    public BreedsListResponse readBreeds() throws IOException {
+        return JsonMapper.shared().readValue(breedsFile().toFile(), BreedsListResponse.class);
+    }
+
+    public BreedImagesResponse readBreedImages(String breed) throws IOException {
+        return JsonMapper.shared().readValue(breedImagesFile(breed).toFile(), BreedImagesResponse.class);
+    }
+
+    public BreedImagesResponse readSubBreedImages(String breed, String subBreed) throws IOException {
+        return JsonMapper.shared().readValue(subBreedImagesFile(breed, subBreed).toFile(), BreedImagesResponse.class);
+    }
+
+    /**
+     * Percorre as URLs de imagens da raça em fluxo, uma por vez.
+     *
+     * @return quantidade de URLs lidas
+     */
+    public long forEachImage(String breed, Consumer<String> action) throws IOException {
+        long count = 0;
+        try (InputStream in = Files.newInputStream(breedImagesFile(breed));
+             JsonParser parser = JsonMapper.shared().getFactory().createParser(in)) {
+            while (parser.nextToken() != null) {
+                if (parser.currentToken() == JsonToken.FIELD_NAME && "message".equals(parser.currentName())
+                        && parser.nextToken() == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() == JsonToken.VALUE_STRING) {
+                        action.accept(parser.getText());
+                        count++;
+                    }
+                }
+            }
+        }
+        return count;
+    }
+}
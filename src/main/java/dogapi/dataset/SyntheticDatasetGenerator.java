@@ -0,0 +1,230 @@
+package dogapi.dataset;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import dogapi.util.JsonMapper;
+import dogapi.util.TestConstants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.TreeSet;
+
+/**
+ * Gera um {@link SyntheticDataset} com as respostas de {@code /breeds/list/all} e
+ * {@code /breed/{breed}[/{subbreed}]/images} em escala configurável (ex.: 100 mil raças ou
+ * 10 milhões de imagens), para medir parsing, cache e indexação além do tamanho da API real.
+ *
+ * Tudo é escrito em fluxo com o {@link JsonGenerator}: a memória usada não depende do tamanho
+ * do dataset, apenas das sub-raças da raça em andamento. Os nomes são sílabas de largura fixa,
+ * de modo que a ordem de geração já é a ordem alfabética da API real; as URLs seguem o layout de
+ * {@code images.dog.ceo} ({@link TestConstants#IMAGE_URL_PATTERN}).
+ *
+ * Argumentos:
+ * <ul>
+ *   <li>{@code --breeds N} - raças (padrão 1000)</li>
+ *   <li>{@code --images N} - total de imagens (padrão 100000; aceita {@code 10_000_000})</li>
+ *   <li>{@code --max-sub-breeds N} - máximo de sub-raças por raça (padrão 4)</li>
+ *   <li>{@code --seed N} - semente (padrão 1)</li>
+ *   <li>{@code --out DIR} - diretório de saída (padrão {@code target/synthetic-dataset})</li>
+ * </ul>
+ *
+ * Uso: {@code mvn -q compile exec:java -Dexec.mainClass=dogapi.dataset.SyntheticDatasetGenerator -Dexec.args="--breeds 100000"}
+ */
+public class SyntheticDatasetGenerator {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SyntheticDatasetGenerator.class);
+
+    private static final String CONSONANTS = "bdfghklmnprstvz";
+    private static final String VOWELS = "aeiou";
+    private static final int SYLLABLES = CONSONANTS.length() * VOWELS.length();
+    private static final String IMAGE_HOST = "https://images.dog.ceo/breeds/";
+
+    private SyntheticDatasetGenerator() {
+        // Classe utilitária - construtor privado
+    }
+
+    public static void main(String[] args) throws IOException {
+        int breeds = 1000;
+        long images = 100_000;
+        int maxSubBreeds = 4;
+        long seed = 1;
+        Path directory = Paths.get("target/synthetic-dataset");
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--breeds" -> breeds = Integer.parseInt(args[++i].replace("_", ""));
+                case "--images" -> images = Long.parseLong(args[++i].replace("_", ""));
+                case "--max-sub-breeds" -> maxSubBreeds = Integer.parseInt(args[++i]);
+                case "--seed" -> seed = Long.parseLong(args[++i]);
+                case "--out" -> directory = Paths.get(args[++i]);
+                default -> throw new IllegalArgumentException("Argumento desconhecido: " + args[i]);
+            }
+        }
+        generate(new DatasetSpec(breeds, images, maxSubBreeds, seed), directory);
+    }
+
+    /**
+     * Gera o dataset no diretório (arquivos existentes são sobrescritos).
+     */
+    public static SyntheticDataset generate(DatasetSpec spec, Path directory) throws IOException {
+        long start = System.nanoTime();
+        int width = syllablesFor(spec.breeds());
+        SyntheticDataset layout = new SyntheticDataset(directory, spec, 0, 0);
+        Files.createDirectories(layout.breedsFile().getParent());
+
+        long bytes = 0;
+        long subBreedCount = 0;
+        int progressStep = Math.max(1, spec.breeds() / 10);
+        try (JsonGenerator list = generator(layout.breedsFile())) {
+            list.writeStartObject();
+            list.writeObjectFieldStart("message");
+            for (int i = 0; i < spec.breeds(); i++) {
+                String breed = name(i, width);
+                SplittableRandom random = new SplittableRandom(spec.seed() * 0x9E3779B97F4A7C15L + i);
+                List<String> subBreeds = subBreeds(random, spec.maxSubBreeds());
+                list.writeArrayFieldStart(breed);
+                for (String subBreed : subBreeds) {
+                    list.writeString(subBreed);
+                }
+                list.writeEndArray();
+                subBreedCount += subBreeds.size();
+                bytes += writeImages(layout, i, breed, subBreeds, spec.imagesOf(i), random);
+                if ((i + 1) % progressStep == 0) {
+                    LOG.info("{}/{} raças geradas", i + 1, spec.breeds());
+                }
+            }
+            list.writeEndObject();
+            list.writeStringField("status", TestConstants.SUCCESS_STATUS);
+            list.writeEndObject();
+        }
+        bytes += Files.size(layout.breedsFile());
+
+        SyntheticDataset dataset = new SyntheticDataset(directory, spec, subBreedCount, bytes);
+        dataset.writeManifest();
+        LOG.info("📦 Dataset sintético em {}: {} raças, {} sub-raças, {} imagens, {} MB em {} ms",
+                directory, spec.breeds(), subBreedCount, spec.images(), bytes / (1024 * 1024),
+                (System.nanoTime() - start) / 1_000_000);
+        return dataset;
+    }
+
+    /**
+     * Escreve as imagens da raça e, ao mesmo tempo, as de cada sub-raça (distribuídas em rodízio).
+     */
+    private static long writeImages(SyntheticDataset layout, int index, String breed, List<String> subBreeds,
+                                    long count, SplittableRandom random) throws IOException {
+        Path file = layout.breedImagesFile(breed);
+        Files.createDirectories(file.getParent());
+        List<Path> subFiles = new ArrayList<>();
+        List<JsonGenerator> subGenerators = new ArrayList<>();
+        String wnid = String.format("/n%08d_", 2_000_000 + index);
+        try (JsonGenerator images = generator(file)) {
+            for (String subBreed : subBreeds) {
+                Path subFile = layout.subBreedImagesFile(breed, subBreed);
+                Files.createDirectories(subFile.getParent());
+                subFiles.add(subFile);
+                subGenerators.add(startImages(generator(subFile)));
+            }
+            startImages(images);
+            StringBuilder url = new StringBuilder(96);
+            for (long j = 0; j < count; j++) {
+                int sub = subBreeds.isEmpty() ? -1 : (int) (j % subBreeds.size());
+                url.setLength(0);
+                url.append(IMAGE_HOST).append(breed);
+                if (sub >= 0) {
+                    url.append('-').append(subBreeds.get(sub));
+                }
+                url.append(wnid).append(j).append('.').append(extension(random));
+                String value = url.toString();
+                images.writeString(value);
+                if (sub >= 0) {
+                    subGenerators.get(sub).writeString(value);
+                }
+            }
+            endImages(images);
+            for (JsonGenerator subGenerator : subGenerators) {
+                endImages(subGenerator);
+            }
+        } finally {
+            for (JsonGenerator subGenerator : subGenerators) {
+                subGenerator.close();
+            }
+        }
+        long bytes = Files.size(file);
+        for (Path subFile : subFiles) {
+            bytes += Files.size(subFile);
+        }
+        return bytes;
+    }
+
+    private static JsonGenerator generator(Path file) throws IOException {
+        return JsonMapper.shared().getFactory().createGenerator(Files.newOutputStream(file));
+    }
+
+    private static JsonGenerator startImages(JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("message");
+        return generator;
+    }
+
+    private static void endImages(JsonGenerator generator) throws IOException {
+        generator.writeEndArray();
+        generator.writeStringField("status", TestConstants.SUCCESS_STATUS);
+        generator.writeEndObject();
+    }
+
+    /**
+     * Cerca de uma raça em cinco recebe de 1 a {@code max} sub-raças, com nomes distintos e ordenados.
+     */
+    private static List<String> subBreeds(SplittableRandom random, int max) {
+        if (max == 0 || random.nextInt(5) != 0) {
+            return List.of();
+        }
+        int count = 1 + random.nextInt(Math.min(max, SYLLABLES * SYLLABLES));
+        TreeSet<String> names = new TreeSet<>();
+        while (names.size() < count) {
+            names.add(name(random.nextInt(SYLLABLES * SYLLABLES), 2));
+        }
+        return List.copyOf(names);
+    }
+
+    /**
+     * Maioria {@code jpg}, como no catálogo real; todas aceitas por {@link TestConstants#IMAGE_URL_PATTERN}.
+     */
+    private static String extension(SplittableRandom random) {
+        int roll = random.nextInt(100);
+        return roll < 90 ? "jpg" : roll < 95 ? "jpeg" : roll < 99 ? "png" : "gif";
+    }
+
+    /**
+     * Sílabas necessárias para nomear {@code count} raças distintas (no mínimo duas).
+     */
+    static int syllablesFor(int count) {
+        int syllables = 2;
+        long capacity = (long) SYLLABLES * SYLLABLES;
+        while (capacity < count) {
+            syllables++;
+            capacity *= SYLLABLES;
+        }
+        return syllables;
+    }
+
+    /**
+     * Nome de largura fixa para o índice: as sílabas estão em ordem alfabética, logo a ordem
+     * dos índices é a ordem alfabética dos nomes.
+     */
+    static String name(long index, int syllables) {
+        char[] name = new char[syllables * 2];
+        for (int i = syllables - 1; i >= 0; i--) {
+            int syllable = (int) (index % SYLLABLES);
+            index /= SYLLABLES;
+            name[i * 2] = CONSONANTS.charAt(syllable / VOWELS.length());
+            name[i * 2 + 1] = VOWELS.charAt(syllable % VOWELS.length());
+        }
+        return new String(name);
+    }
+}
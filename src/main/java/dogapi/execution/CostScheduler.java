@@ -0,0 +1,317 @@
+package dogapi.execution;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IAlterSuiteListener;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Escalonador da suíte pelo custo histórico de cada método.
+ *
+ * Antes da execução, lê as durações de execuções anteriores ({@link TestTimingHistory}) e
+ * reordena os métodos: os que compartilham um {@link SharedFixture} formam um bloco contíguo,
+ * e blocos e métodos avulsos seguem a heurística LPT (maior custo primeiro), distribuídos
+ * entre os workers da suíte. Métodos sem histórico usam a mediana como peso.
+ *
+ * Ao final da suíte compara o makespan previsto com o real e grava o plano, com o tempo
+ * previsto e o medido de cada método, em {@code target/schedule-report.tsv}. Os tempos medidos
+ * também são gravados, um {@code TEST-<classe>.xml} por classe, em {@code .test-history/}: fora
+ * do {@code target/}, o histórico sobrevive ao {@code mvn clean} das execuções normais.
+ *
+ * Sem nenhum histórico a suíte não é alterada: o {@code preserve-order} e a ordem do XML são
+ * mantidos, já que um plano com pesos iguais apenas ordenaria os métodos pelo nome.
+ *
+ * Propriedades de sistema:
+ * <ul>
+ *   <li>{@code dogapi.schedule.enabled} - padrão {@code true}; com {@code false} mantém a ordem do XML</li>
+ *   <li>{@code dogapi.schedule.history} - diretórios do histórico, separados por vírgula
+ *       (padrão {@code .test-history,target/surefire-reports,target/shard-history})</li>
+ *   <li>{@code dogapi.schedule.store} - onde gravar os tempos medidos (padrão {@code .test-history})</li>
+ *   <li>{@code dogapi.schedule.workers} - workers considerados no plano (padrão: threads da
+ *       suíte quando paralela, senão 1)</li>
+ * </ul>
+ */
+public class CostScheduler implements IAlterSuiteListener, IMethodInterceptor, ISuiteListener {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CostScheduler.class);
+
+    /** Peso usado quando não existe nenhum histórico (segundos). */
+    private static final double DEFAULT_WEIGHT_SECONDS = 1.0;
+
+    private static final String DEFAULT_STORE = ".test-history";
+
+    private static final String DEFAULT_HISTORY = DEFAULT_STORE + ",target/surefire-reports,target/shard-history";
+
+    /**
+     * Método a escalonar.
+     *
+     * @param id             {@code classe#método}
+     * @param fixture        valor do {@link SharedFixture} ({@code null} se não houver)
+     * @param weightSeconds  duração prevista
+     */
+    public record Task(String id, String fixture, double weightSeconds) {
+    }
+
+    /**
+     * Resultado do escalonamento.
+     *
+     * @param order                    ordem de execução
+     * @param workers                  workers considerados
+     * @param predictedMakespanSeconds maior carga entre os workers no plano LPT
+     */
+    public record Schedule(List<Task> order, int workers, double predictedMakespanSeconds) {
+
+        public double totalSeconds() {
+            return order.stream().mapToDouble(Task::weightSeconds).sum();
+        }
+    }
+
+    /**
+     * Unidade indivisível do plano: um bloco de fixture ou um método avulso.
+     */
+    private record Unit(String label, List<Task> tasks, double weightSeconds) {
+    }
+
+    private final List<Schedule> schedules = new ArrayList<>();
+
+    /** Carregado uma vez por execução, antes do {@link #alter(List)}. */
+    private TestTimingHistory history;
+
+    /**
+     * Ordena as tarefas: blocos por fixture (internamente do mais caro para o mais barato) e
+     * unidades por custo decrescente, atribuídas ao worker menos carregado. Empates são
+     * resolvidos pelo nome, tornando o plano determinístico.
+     */
+    public static Schedule plan(List<Task> tasks, int workers) {
+        if (workers < 1) {
+            throw new IllegalArgumentException("Número de workers deve ser maior que zero: " + workers);
+        }
+        Comparator<Task> byCost = Comparator.comparingDouble(Task::weightSeconds).reversed()
+                .thenComparing(Task::id);
+        Map<String, List<Task>> fixtures = new LinkedHashMap<>();
+        List<Unit> units = new ArrayList<>();
+        for (Task task : tasks) {
+            if (task.fixture() == null) {
+                units.add(new Unit(task.id(), List.of(task), task.weightSeconds()));
+            } else {
+                fixtures.computeIfAbsent(task.fixture(), key -> new ArrayList<>()).add(task);
+            }
+        }
+        fixtures.forEach((fixture, group) -> {
+            group.sort(byCost);
+            units.add(new Unit("@" + fixture, group, group.stream().mapToDouble(Task::weightSeconds).sum()));
+        });
+        units.sort(Comparator.comparingDouble(Unit::weightSeconds).reversed().thenComparing(Unit::label));
+
+        double[] loads = new double[workers];
+        List<Task> order = new ArrayList<>();
+        for (Unit unit : units) {
+            int lightest = 0;
+            for (int i = 1; i < workers; i++) {
+                if (loads[i] < loads[lightest]) {
+                    lightest = i;
+                }
+            }
+            loads[lightest] += unit.weightSeconds();
+            order.addAll(unit.tasks());
+        }
+        return new Schedule(order, workers, Arrays.stream(loads).max().orElse(0));
+    }
+
+    private static boolean enabled() {
+        return Boolean.parseBoolean(System.getProperty("dogapi.schedule.enabled", "true"));
+    }
+
+    private synchronized TestTimingHistory history() {
+        if (history == null) {
+            List<Path> historyDirs = Arrays.stream(System.getProperty("dogapi.schedule.history", DEFAULT_HISTORY).split(","))
+                    .map(String::trim)
+                    .filter(dir -> !dir.isEmpty())
+                    .map(Paths::get)
+                    .toList();
+            history = TestTimingHistory.load(historyDirs);
+        }
+        return history;
+    }
+
+    /**
+     * Com {@code preserve-order} o TestNG mantém as classes na ordem do XML e só reordena os
+     * métodos dentro de cada uma; o escalonamento precisa da suíte inteira.
+     */
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        if (!enabled()) {
+            return;
+        }
+        if (history().isEmpty()) {
+            LOG.info("🗓️ Sem histórico de tempos: mantendo a ordem do testng.xml");
+            return;
+        }
+        for (XmlSuite suite : suites) {
+            suite.setPreserveOrder(false);
+            suite.getTests().forEach(test -> test.setPreserveOrder(false));
+        }
+    }
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        TestTimingHistory history = history();
+        if (!enabled() || history.isEmpty()) {
+            return methods;
+        }
+        double unknownWeight = history.medianSeconds(DEFAULT_WEIGHT_SECONDS);
+
+        Map<String, IMethodInstance> byId = new HashMap<>();
+        List<Task> tasks = new ArrayList<>();
+        int unknown = 0;
+        for (IMethodInstance instance : methods) {
+            ITestNGMethod method = instance.getMethod();
+            String className = method.getRealClass().getName();
+            String id = className + "#" + method.getMethodName();
+            if (byId.putIfAbsent(id, instance) != null) {
+                // Mesmo método em mais de uma instância: mantém a ordem original
+                return methods;
+            }
+            var seconds = history.methodSeconds(className, method.getMethodName());
+            if (seconds.isEmpty()) {
+                unknown++;
+            }
+            tasks.add(new Task(id, fixture(method), seconds.orElse(unknownWeight)));
+        }
+
+        Schedule schedule = plan(tasks, workers(context.getCurrentXmlTest()));
+        synchronized (schedules) {
+            schedules.add(schedule);
+        }
+        LOG.info(String.format(Locale.ROOT,
+                "🗓️ Escalonamento de '%s': %d métodos (%d sem histórico), %d worker(s), makespan previsto %.2fs",
+                context.getName(), tasks.size(), unknown, schedule.workers(), schedule.predictedMakespanSeconds()));
+        return schedule.order().stream().map(task -> byId.get(task.id())).collect(Collectors.toList());
+    }
+
+    private static String fixture(ITestNGMethod method) {
+        Method reflected = method.getConstructorOrMethod().getMethod();
+        SharedFixture annotation = reflected != null ? reflected.getAnnotation(SharedFixture.class) : null;
+        if (annotation == null) {
+            Class<?> type = method.getRealClass();
+            annotation = type.getAnnotation(SharedFixture.class);
+        }
+        return annotation != null ? annotation.value() : null;
+    }
+
+    private static int workers(XmlTest test) {
+        Integer configured = Integer.getInteger("dogapi.schedule.workers");
+        if (configured != null) {
+            return configured;
+        }
+        return test.getParallel() != null && test.getParallel().isParallel() ? Math.max(1, test.getThreadCount()) : 1;
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (!enabled()) {
+            return;
+        }
+        Map<String, Double> actual = new HashMap<>();
+        long first = Long.MAX_VALUE;
+        long last = Long.MIN_VALUE;
+        for (var result : suite.getResults().values()) {
+            ITestContext context = result.getTestContext();
+            List<ITestResult> results = new ArrayList<>();
+            results.addAll(context.getPassedTests().getAllResults());
+            results.addAll(context.getFailedTests().getAllResults());
+            results.addAll(context.getSkippedTests().getAllResults());
+            for (ITestResult testResult : results) {
+                String id = testResult.getMethod().getRealClass().getName() + "#" + testResult.getMethod().getMethodName();
+                actual.merge(id, (testResult.getEndMillis() - testResult.getStartMillis()) / 1000.0, Double::sum);
+                first = Math.min(first, testResult.getStartMillis());
+                last = Math.max(last, testResult.getEndMillis());
+            }
+        }
+        store(actual, Paths.get(System.getProperty("dogapi.schedule.store", DEFAULT_STORE)));
+
+        List<Schedule> planned;
+        synchronized (schedules) {
+            planned = List.copyOf(schedules);
+        }
+        if (planned.isEmpty()) {
+            return;
+        }
+        double predicted = planned.stream().mapToDouble(Schedule::predictedMakespanSeconds).sum();
+        double measured = first <= last ? (last - first) / 1000.0 : 0;
+        LOG.info(String.format(Locale.ROOT, "🗓️ Makespan previsto %.2fs, real %.2fs (%+.2fs)",
+                predicted, measured, measured - predicted));
+        write(planned, actual, Paths.get("target/schedule-report.tsv"));
+    }
+
+    /**
+     * Grava os tempos medidos no formato do Surefire, um arquivo por classe: execuções parciais
+     * (ex.: {@code -Dtest=...}) substituem apenas as classes que executaram.
+     */
+    private static void store(Map<String, Double> actual, Path directory) {
+        Map<String, List<String>> byClass = new TreeMap<>();
+        actual.entrySet().stream().sorted(Map.Entry.comparingByKey()).forEach(entry -> {
+            int separator = entry.getKey().indexOf('#');
+            String className = entry.getKey().substring(0, separator);
+            byClass.computeIfAbsent(className, key -> new ArrayList<>()).add(String.format(Locale.ROOT,
+                    "  <testcase classname=\"%s\" name=\"%s\" time=\"%.3f\"/>",
+                    className, entry.getKey().substring(separator + 1), entry.getValue()));
+        });
+        try {
+            Files.createDirectories(directory);
+            for (Map.Entry<String, List<String>> entry : byClass.entrySet()) {
+                List<String> lines = new ArrayList<>();
+                lines.add("<testsuite name=\"" + entry.getKey() + "\" tests=\"" + entry.getValue().size() + "\">");
+                lines.addAll(entry.getValue());
+                lines.add("</testsuite>");
+                Files.write(directory.resolve("TEST-" + entry.getKey() + ".xml"), lines);
+            }
+        } catch (IOException e) {
+            LOG.warn("Não foi possível gravar o histórico de tempos em {}: {}", directory, e.getMessage());
+        }
+    }
+
+    private static void write(List<Schedule> planned, Map<String, Double> actual, Path file) {
+        List<String> lines = new ArrayList<>();
+        lines.add("order\tmethod\tfixture\tpredicted_s\tactual_s");
+        int position = 0;
+        for (Schedule schedule : planned) {
+            for (Task task : schedule.order()) {
+                Double seconds = actual.get(task.id());
+                lines.add(String.format(Locale.ROOT, "%d\t%s\t%s\t%.3f\t%s", ++position, task.id(),
+                        task.fixture() != null ? task.fixture() : "-", task.weightSeconds(),
+                        seconds != null ? String.format(Locale.ROOT, "%.3f", seconds) : "-"));
+            }
+        }
+        try {
+            Files.createDirectories(file.getParent());
+            Files.write(file, lines);
+        } catch (IOException e) {
+            LOG.warn("Não foi possível gravar o relatório de escalonamento {}: {}", file, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package dogapi.execution;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.annotations.Test;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlInclude;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+import org.testng.xml.internal.Parser;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.PriorityQueue;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Divide a suíte TestNG em shards balanceados pelo tempo histórico de execução.
+ *
+ * Cada classe (ou método, no modo {@link Mode#METHOD}) recebe como peso a duração
+ * registrada em execuções anteriores; itens sem histórico usam a mediana. A
+ * distribuição segue a heurística LPT (maior tarefa primeiro no shard menos carregado),
+ * que mantém o makespan próximo do ideal à medida que novos nós são adicionados.
+ *
+ * Uso:
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=dogapi.execution.ShardPlanner \
+ *     -Dexec.args="--shards 3 --mode method --history target/shard-history --out target/shards"
+ * </pre>
+ */
+public class ShardPlanner {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ShardPlanner.class);
+
+    /** Peso usado quando não existe nenhum histórico (segundos). */
+    private static final double DEFAULT_WEIGHT_SECONDS = 1.0;
+
+    public enum Mode {
+        CLASS, METHOD
+    }
+
+    /**
+     * Unidade indivisível de trabalho: uma classe inteira ou um único método.
+     */
+    public record WorkItem(String testName, String className, List<String> methods, double weightSeconds) {
+
+        public String label() {
+            return methods.size() == 1 ? className + "#" + methods.get(0) : className;
+        }
+    }
+
+    /**
+     * Conjunto de itens atribuídos a um nó.
+     */
+    public static final class Shard {
+
+        private final int index;
+        private final List<WorkItem> items = new ArrayList<>();
+        private double loadSeconds;
+
+        Shard(int index) {
+            this.index = index;
+        }
+
+        void add(WorkItem item) {
+            items.add(item);
+            loadSeconds += item.weightSeconds();
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public List<WorkItem> getItems() {
+            return items;
+        }
+
+        public double getLoadSeconds() {
+            return loadSeconds;
+        }
+    }
+
+    private ShardPlanner() {
+        // Classe utilitária - construtor privado
+    }
+
+    /**
+     * Distribui os itens em {@code shardCount} shards (LPT). Empates são resolvidos
+     * pelo nome do item e pelo índice do shard, tornando o plano determinístico em
+     * todos os nós do CI.
+     */
+    public static List<Shard> plan(List<WorkItem> items, int shardCount) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("Número de shards deve ser maior que zero: " + shardCount);
+        }
+        List<Shard> shards = new ArrayList<>();
+        PriorityQueue<Shard> byLoad = new PriorityQueue<>(
+                Comparator.comparingDouble(Shard::getLoadSeconds).thenComparingInt(Shard::getIndex));
+        for (int i = 1; i <= shardCount; i++) {
+            Shard shard = new Shard(i);
+            shards.add(shard);
+            byLoad.add(shard);
+        }
+
+        List<WorkItem> sorted = new ArrayList<>(items);
+        sorted.sort(Comparator.comparingDouble(WorkItem::weightSeconds).reversed()
+                .thenComparing(WorkItem::label));
+        for (WorkItem item : sorted) {
+            Shard lightest = byLoad.poll();
+            lightest.add(item);
+            byLoad.add(lightest);
+        }
+        return shards;
+    }
+
+    /**
+     * Extrai os itens de trabalho da suíte, atribuindo pesos a partir do histórico.
+     */
+    public static List<WorkItem> workItems(XmlSuite suite, Mode mode, TestTimingHistory history) {
+        double unknownWeight = history.medianSeconds(DEFAULT_WEIGHT_SECONDS);
+        List<WorkItem> items = new ArrayList<>();
+        for (XmlTest test : suite.getTests()) {
+            for (XmlClass xmlClass : test.getXmlClasses()) {
+                String className = xmlClass.getName();
+                List<String> methods = testMethods(xmlClass);
+                if (mode == Mode.METHOD) {
+                    for (String method : methods) {
+                        double weight = history.methodSeconds(className, method).orElse(unknownWeight);
+                        items.add(new WorkItem(test.getName(), className, List.of(method), weight));
+                    }
+                } else {
+                    double weight = methods.stream()
+                            .mapToDouble(method -> history.methodSeconds(className, method).orElse(unknownWeight))
+                            .sum();
+                    items.add(new WorkItem(test.getName(), className, methods, weight));
+                }
+            }
+        }
+        return items;
+    }
+
+    /**
+     * Métodos de teste da classe: os incluídos explicitamente no XML ou, na ausência
+     * deles, todos os métodos anotados com {@link Test} e habilitados.
+     */
+    static List<String> testMethods(XmlClass xmlClass) {
+        if (!xmlClass.getIncludedMethods().isEmpty()) {
+            return xmlClass.getIncludedMethods().stream()
+                    .map(XmlInclude::getName)
+                    .collect(Collectors.toList());
+        }
+        Class<?> type;
+        try {
+            type = Class.forName(xmlClass.getName(), false, ShardPlanner.class.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("Classe de teste não encontrada no classpath: " + xmlClass.getName()
+                    + " (execute com -Dexec.classpathScope=test)", e);
+        }
+        Test classLevel = type.getAnnotation(Test.class);
+        TreeSet<String> methods = new TreeSet<>();
+        for (Method method : type.getMethods()) {
+            if (method.getDeclaringClass() == Object.class || Modifier.isStatic(method.getModifiers())
+                    || xmlClass.getExcludedMethods().contains(method.getName())) {
+                continue;
+            }
+            Test annotation = method.getAnnotation(Test.class);
+            Test effective = annotation != null ? annotation : classLevel;
+            if (effective != null && effective.enabled()) {
+                methods.add(method.getName());
+            }
+        }
+        return new ArrayList<>(methods);
+    }
+
+    /**
+     * Gera a suíte XML de um shard, preservando parâmetros e listeners da original.
+     */
+    public static XmlSuite toSuite(XmlSuite original, Shard shard, int shardCount) {
+        XmlSuite suite = new XmlSuite();
+        suite.setName(String.format("%s [shard %d/%d]", original.getName(), shard.getIndex(), shardCount));
+        suite.setVerbose(original.getVerbose());
+        suite.setParameters(original.getParameters());
+        suite.setListeners(original.getListeners());
+        suite.setParallel(original.getParallel());
+        suite.setThreadCount(original.getThreadCount());
+
+        for (XmlTest originalTest : original.getTests()) {
+            List<XmlClass> classes = new ArrayList<>();
+            for (XmlClass originalClass : originalTest.getXmlClasses()) {
+                List<String> methods = shard.getItems().stream()
+                        .filter(item -> item.testName().equals(originalTest.getName())
+                                && item.className().equals(originalClass.getName()))
+                        .flatMap(item -> item.methods().stream())
+                        .collect(Collectors.toList());
+                if (methods.isEmpty()) {
+                    continue;
+                }
+                XmlClass xmlClass = new XmlClass(originalClass.getName(), false);
+                xmlClass.setIncludedMethods(methods.stream().map(XmlInclude::new).collect(Collectors.toList()));
+                classes.add(xmlClass);
+            }
+            if (classes.isEmpty()) {
+                continue;
+            }
+            XmlTest test = new XmlTest(suite);
+            test.setName(originalTest.getName());
+            test.setParameters(originalTest.getLocalParameters());
+            test.setXmlClasses(classes);
+        }
+        return suite;
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path suitePath = Paths.get("src/test/resources/testng.xml");
+        Path outputDir = Paths.get("target/shards");
+        List<Path> historyDirs = new ArrayList<>();
+        int shardCount = 2;
+        Mode mode = Mode.CLASS;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--suite" -> suitePath = Paths.get(args[++i]);
+                case "--shards" -> shardCount = Integer.parseInt(args[++i]);
+                case "--mode" -> mode = Mode.valueOf(args[++i].toUpperCase(Locale.ROOT));
+                case "--history" -> historyDirs.add(Paths.get(args[++i]));
+                case "--out" -> outputDir = Paths.get(args[++i]);
+                default -> throw new IllegalArgumentException("Opção desconhecida: " + args[i]);
+            }
+        }
+
+        XmlSuite original = new Parser(suitePath.toString()).parseToList().get(0);
+        TestTimingHistory history = TestTimingHistory.load(historyDirs);
+        List<WorkItem> items = workItems(original, mode, history);
+        List<Shard> shards = plan(items, shardCount);
+
+        Files.createDirectories(outputDir);
+        StringBuilder summary = new StringBuilder();
+        for (Shard shard : shards) {
+            Path shardFile = outputDir.resolve("shard-" + shard.getIndex() + ".xml");
+            Files.writeString(shardFile, toSuite(original, shard, shardCount).toXml());
+            summary.append(String.format(Locale.ROOT, "shard-%d\t%.2fs\t%d itens\t%s%n",
+                    shard.getIndex(), shard.getLoadSeconds(), shard.getItems().size(),
+                    shard.getItems().stream().map(WorkItem::label).collect(Collectors.joining(","))));
+            LOG.info("Shard {}/{}: {} itens, carga estimada {}s", shard.getIndex(), shardCount,
+                    shard.getItems().size(), String.format(Locale.ROOT, "%.2f", shard.getLoadSeconds()));
+        }
+        Files.writeString(outputDir.resolve("plan.tsv"), summary.toString());
+    }
+}
@@ -0,0 +1,176 @@
+package dogapi.execution;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * Combina os resultados produzidos por cada shard em um único relatório.
+ *
+ * Espera que cada diretório de entrada contenha {@code allure-results/} e
+ * {@code surefire-reports/}, como gerado pelo {@code scripts/run-shards.sh}:
+ * <ul>
+ *   <li>Allure: os arquivos de resultado têm nomes únicos (UUID) e são copiados lado a lado;
+ *       arquivos de ambiente repetidos mantêm a primeira cópia.</li>
+ *   <li>Surefire: os {@code testcase} de todos os {@code TEST-*.xml} são reunidos em um único
+ *       {@code TEST-TestSuite.xml} com os totais somados; os relatórios originais ficam em
+ *       {@code surefire-reports/shard-N/}.</li>
+ * </ul>
+ */
+public class ShardResultMerger {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ShardResultMerger.class);
+
+    private static final String[] COUNTERS = {"tests", "failures", "errors", "skipped"};
+
+    /**
+     * Totais do relatório mesclado.
+     */
+    public record Totals(long tests, long failures, long errors, long skipped) {
+
+        /** Há falhas ou erros em algum shard. */
+        public boolean failed() {
+            return failures + errors > 0;
+        }
+    }
+
+    private ShardResultMerger() {
+        // Classe utilitária - construtor privado
+    }
+
+    /**
+     * Mescla os diretórios de shards em {@code outputDir} e devolve os totais somados.
+     */
+    public static Totals merge(List<Path> shardDirs, Path outputDir) throws Exception {
+        Path allureOut = Files.createDirectories(outputDir.resolve("allure-results"));
+        Path surefireOut = Files.createDirectories(outputDir.resolve("surefire-reports"));
+
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+        Document merged = factory.newDocumentBuilder().newDocument();
+        Element mergedSuite = merged.createElement("testsuite");
+        mergedSuite.setAttribute("name", "TestSuite");
+        merged.appendChild(mergedSuite);
+        long[] totals = new long[COUNTERS.length];
+        double wallClock = 0;
+
+        for (Path shardDir : shardDirs) {
+            String shardName = shardDir.getFileName().toString();
+            copyAllureResults(shardDir.resolve("allure-results"), allureOut);
+
+            Path reports = shardDir.resolve("surefire-reports");
+            if (!Files.isDirectory(reports)) {
+                LOG.warn("Shard {} sem surefire-reports, ignorando", shardName);
+                continue;
+            }
+            copyTree(reports, surefireOut.resolve(shardName));
+
+            for (Path report : junitReports(reports)) {
+                Element suite = factory.newDocumentBuilder().parse(report.toFile()).getDocumentElement();
+                for (int i = 0; i < COUNTERS.length; i++) {
+                    String value = suite.getAttribute(COUNTERS[i]);
+                    totals[i] += value.isEmpty() ? 0 : Long.parseLong(value);
+                }
+                String time = suite.getAttribute("time").replace(",", "");
+                wallClock = Math.max(wallClock, time.isEmpty() ? 0 : Double.parseDouble(time));
+                NodeList testCases = suite.getElementsByTagName("testcase");
+                for (int i = 0; i < testCases.getLength(); i++) {
+                    Node imported = merged.importNode(testCases.item(i), true);
+                    mergedSuite.appendChild(imported);
+                }
+            }
+        }
+
+        for (int i = 0; i < COUNTERS.length; i++) {
+            mergedSuite.setAttribute(COUNTERS[i], Long.toString(totals[i]));
+        }
+        // Com shards em paralelo o tempo total é o do shard mais lento
+        mergedSuite.setAttribute("time", String.format(Locale.ROOT, "%.3f", wallClock));
+
+        Transformer transformer = TransformerFactory.newInstance().newTransformer();
+        transformer.setOutputProperty(OutputKeys.INDENT, "yes");
+        transformer.transform(new DOMSource(merged), new StreamResult(surefireOut.resolve("TEST-TestSuite.xml").toFile()));
+
+        LOG.info("Resultados mesclados de {} shards: {} testes, {} falhas, {} erros, {} ignorados (maior shard: {}s)",
+                shardDirs.size(), totals[0], totals[1], totals[2], totals[3],
+                String.format(Locale.ROOT, "%.1f", wallClock));
+        return new Totals(totals[0], totals[1], totals[2], totals[3]);
+    }
+
+    private static List<Path> junitReports(Path reports) throws IOException {
+        try (Stream<Path> files = Files.list(reports)) {
+            return files.filter(file -> {
+                String name = file.getFileName().toString();
+                return name.startsWith("TEST-") && name.endsWith(".xml");
+            }).sorted().toList();
+        }
+    }
+
+    private static void copyAllureResults(Path source, Path target) throws IOException {
+        if (!Files.isDirectory(source)) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(source)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Path destination = target.resolve(file.getFileName());
+                if (Files.isRegularFile(file) && !Files.exists(destination)) {
+                    Files.copy(file, destination);
+                }
+            }
+        }
+    }
+
+    private static void copyTree(Path source, Path target) throws IOException {
+        try (Stream<Path> paths = Files.walk(source)) {
+            for (Path path : (Iterable<Path>) paths::iterator) {
+                Path destination = target.resolve(source.relativize(path).toString());
+                if (Files.isDirectory(path)) {
+                    Files.createDirectories(destination);
+                } else {
+                    Files.copy(path, destination, StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path outputDir = Paths.get("target");
+        List<Path> shardDirs = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            if ("--out".equals(args[i])) {
+                outputDir = Paths.get(args[++i]);
+            } else {
+                shardDirs.add(Paths.get(args[i]));
+            }
+        }
+        if (shardDirs.isEmpty()) {
+            throw new IllegalArgumentException("Informe ao menos um diretório de shard");
+        }
+        Totals totals = merge(shardDirs, outputDir);
+        if (totals.failed()) {
+            // Os shards ignoram falhas de teste para que todos os relatórios sejam gerados;
+            // o resultado da execução é decidido aqui, sobre os totais mesclados
+            LOG.error("❌ {} falhas e {} erros nos shards", totals.failures(), totals.errors());
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package dogapi.execution;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Identifica o dado da API de que um teste depende (ex.: {@code breeds-list}).
+ *
+ * O {@link CostScheduler} executa em sequência os métodos com o mesmo fixture, para que
+ * aproveitem a conexão aquecida e o cache do CDN. A coalescência do {@code DogApiClient} só
+ * une chamadas simultâneas e não guarda resultados: não se aplica a métodos executados em
+ * sequência.
+ * Na classe vale para todos os métodos; no método, tem precedência sobre a classe.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface SharedFixture {
+
+    String value();
+}
@@ -0,0 +1,150 @@
+package dogapi.execution;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.stream.Stream;
+
+/**
+ * Histórico de duração dos testes lido de execuções anteriores.
+ *
+ * Aceita relatórios JUnit do Surefire ({@code TEST-*.xml}) e resultados do Allure
+ * ({@code *-result.json}). As durações são indexadas por {@code classe#método} e,
+ * quando há mais de uma amostra, é usada a média.
+ */
+public class TestTimingHistory {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TestTimingHistory.class);
+
+    private final Map<String, double[]> samples = new HashMap<>();
+
+    /**
+     * Carrega o histórico de todos os diretórios informados (busca recursiva).
+     * Diretórios inexistentes são ignorados.
+     */
+    public static TestTimingHistory load(List<Path> directories) {
+        TestTimingHistory history = new TestTimingHistory();
+        for (Path directory : directories) {
+            if (!Files.isDirectory(directory)) {
+                continue;
+            }
+            try (Stream<Path> files = Files.walk(directory)) {
+                files.filter(Files::isRegularFile).forEach(history::readFile);
+            } catch (IOException e) {
+                LOG.warn("Não foi possível ler o histórico em {}: {}", directory, e.getMessage());
+            }
+        }
+        LOG.info("Histórico de tempos carregado: {} métodos", history.samples.size());
+        return history;
+    }
+
+    private void readFile(Path file) {
+        String name = file.getFileName().toString();
+        try {
+            if (name.startsWith("TEST-") && name.endsWith(".xml")) {
+                readSurefireReport(file);
+            } else if (name.endsWith("-result.json")) {
+                readAllureResult(file);
+            }
+        } catch (Exception e) {
+            LOG.warn("Ignorando arquivo de histórico inválido {}: {}", file, e.getMessage());
+        }
+    }
+
+    private void readSurefireReport(Path file) throws Exception {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+        DocumentBuilder builder = factory.newDocumentBuilder();
+        Document document = builder.parse(file.toFile());
+        NodeList testCases = document.getElementsByTagName("testcase");
+        for (int i = 0; i < testCases.getLength(); i++) {
+            Element testCase = (Element) testCases.item(i);
+            String time = testCase.getAttribute("time");
+            if (time.isEmpty()) {
+                continue;
+            }
+            record(testCase.getAttribute("classname"), testCase.getAttribute("name"),
+                    Double.parseDouble(time.replace(",", "")));
+        }
+    }
+
+    private void readAllureResult(Path file) throws IOException {
+        JsonNode result = new ObjectMapper().readTree(file.toFile());
+        String fullName = result.path("fullName").asText("");
+        int separator = fullName.lastIndexOf('.');
+        if (separator < 0 || !result.has("start") || !result.has("stop")) {
+            return;
+        }
+        double seconds = (result.get("stop").asLong() - result.get("start").asLong()) / 1000.0;
+        record(fullName.substring(0, separator), fullName.substring(separator + 1), seconds);
+    }
+
+    /**
+     * Registra uma amostra de duração (em segundos) para o método informado.
+     */
+    public void record(String className, String methodName, double seconds) {
+        double[] entry = samples.computeIfAbsent(key(className, methodName), k -> new double[2]);
+        entry[0] += seconds;
+        entry[1]++;
+    }
+
+    /**
+     * Duração média conhecida para o método, se houver.
+     */
+    public OptionalDouble methodSeconds(String className, String methodName) {
+        double[] entry = samples.get(key(className, methodName));
+        return entry == null ? OptionalDouble.empty() : OptionalDouble.of(entry[0] / entry[1]);
+    }
+
+    /**
+     * Soma das durações médias de todos os métodos conhecidos da classe.
+     */
+    public OptionalDouble classSeconds(String className) {
+        String prefix = className + "#";
+        double total = 0;
+        boolean found = false;
+        for (Map.Entry<String, double[]> entry : samples.entrySet()) {
+            if (entry.getKey().startsWith(prefix)) {
+                total += entry.getValue()[0] / entry.getValue()[1];
+                found = true;
+            }
+        }
+        return found ? OptionalDouble.of(total) : OptionalDouble.empty();
+    }
+
+    /**
+     * Mediana das durações conhecidas, usada como peso para métodos sem histórico.
+     */
+    public double medianSeconds(double fallback) {
+        double[] averages = samples.values().stream()
+                .mapToDouble(entry -> entry[0] / entry[1])
+                .sorted()
+                .toArray();
+        if (averages.length == 0) {
+            return fallback;
+        }
+        return averages[averages.length / 2];
+    }
+
+    public boolean isEmpty() {
+        return samples.isEmpty();
+    }
+
+    private static String key(String className, String methodName) {
+        return className + "#" + methodName;
+    }
+}
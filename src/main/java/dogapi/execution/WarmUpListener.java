@@ -0,0 +1,144 @@
+package dogapi.execution;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dogapi.client.ConnectionPool;
+import dogapi.client.DogApiClient;
+import dogapi.model.BaseResponse;
+import dogapi.model.BreedImagesResponse;
+import dogapi.model.BreedsListResponse;
+import dogapi.model.ErrorResponse;
+import dogapi.model.RandomImageResponse;
+import dogapi.model.RandomImagesResponse;
+import dogapi.schema.SchemaRegistry;
+import dogapi.transport.ContentCodec;
+import dogapi.util.JsonMapper;
+import dogapi.util.StartupTimer;
+import dogapi.util.TestConstants;
+import io.restassured.RestAssured;
+import io.restassured.specification.RequestSpecification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+import java.net.InetAddress;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Etapa de aquecimento executada antes da suíte.
+ *
+ * O primeiro teste que usa o {@link DogApiClient} pagaria sozinho por DNS, handshake TLS,
+ * JIT e introspecção do Jackson, distorcendo as medições de tempo de resposta. Este listener
+ * antecipa esses custos:
+ * <ol>
+ *   <li>resolve o host da API;</li>
+ *   <li>pré-resolve os deserializadores de todos os modelos em {@code dogapi.model};</li>
+ *   <li>compila os schemas JSON desses modelos no {@link SchemaRegistry};</li>
+ *   <li>abre conexões no {@link ConnectionPool} com requisições simultâneas aos endpoints.</li>
+ * </ol>
+ *
+ * Propriedades de sistema: {@code dogapi.warmup.enabled} (padrão {@code true}) e
+ * {@code dogapi.warmup.connections} (conexões abertas em paralelo, padrão 2).
+ * Falhas no aquecimento são apenas registradas no log; os testes seguem normalmente.
+ */
+public class WarmUpListener implements ISuiteListener {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WarmUpListener.class);
+
+    /** Modelos deserializados a partir das respostas da API. */
+    static final List<Class<? extends BaseResponse>> MODEL_TYPES = List.of(
+            BaseResponse.class,
+            BreedsListResponse.class,
+            BreedImagesResponse.class,
+            RandomImageResponse.class,
+            RandomImagesResponse.class,
+            ErrorResponse.class);
+
+    private static final List<String> WARM_UP_PATHS = List.of(
+            "/breeds/list/all",
+            "/breed/" + TestConstants.VALID_BREED + "/images",
+            "/breeds/image/random");
+
+    @Override
+    public void onStart(ISuite suite) {
+        if (!Boolean.parseBoolean(System.getProperty("dogapi.warmup.enabled", "true"))) {
+            LOG.info("Aquecimento desabilitado (dogapi.warmup.enabled=false)");
+            return;
+        }
+        long start = System.nanoTime();
+        long dnsMillis = timed(this::resolveHost);
+        long jacksonMillis = timed(this::resolveDeserializers);
+        long schemaMillis = timed(() -> SchemaRegistry.preload(MODEL_TYPES));
+        long connectionsMillis = timed(this::openConnections);
+
+        // As requisições do aquecimento não passam pelo filtro do Allure: o StartupTimer mede a
+        // primeira requisição de teste e desconta este tempo
+        long totalMillis = elapsedMillis(start);
+        StartupTimer.recordWarmUp(totalMillis);
+        LOG.info("🔥 Aquecimento concluído em {} ms (DNS {} ms, Jackson {} ms, schemas {} ms, conexões {} ms, pool: {})",
+                totalMillis, dnsMillis, jacksonMillis, schemaMillis, connectionsMillis, ConnectionPool.stats());
+    }
+
+    private void resolveHost() throws Exception {
+        InetAddress.getAllByName(URI.create(DogApiClient.BASE_URL).getHost());
+    }
+
+    private void resolveDeserializers() throws Exception {
+        ObjectMapper mapper = JsonMapper.shared();
+        for (Class<? extends BaseResponse> type : MODEL_TYPES) {
+            // readerFor() busca e guarda em cache o deserializador raiz do tipo
+            mapper.readerFor(type).readValue("{\"status\":\"success\"}");
+        }
+    }
+
+    private void openConnections() throws Exception {
+        int connections = Integer.getInteger("dogapi.warmup.connections", 2);
+        ExecutorService executor = Executors.newFixedThreadPool(connections);
+        try {
+            List<CompletableFuture<Void>> requests = new ArrayList<>();
+            for (int i = 0; i < connections; i++) {
+                String path = WARM_UP_PATHS.get(i % WARM_UP_PATHS.size());
+                requests.add(CompletableFuture.runAsync(() -> warmUpRequest().get(path).asByteArray(), executor));
+            }
+            CompletableFuture.allOf(requests.toArray(CompletableFuture<?>[]::new)).join();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Requisição no mesmo pool usado pelo {@link DogApiClient}, sem depender da configuração
+     * global do REST Assured. Sem o filtro do Allure: ainda não há teste em execução para
+     * receber os steps.
+     */
+    private static RequestSpecification warmUpRequest() {
+        return RestAssured.given()
+                .config(RestAssured.config().httpClient(ConnectionPool.httpClientConfig()))
+                .baseUri(DogApiClient.BASE_URL)
+                .header("Accept-Encoding", ContentCodec.ACCEPT_ENCODING);
+    }
+
+    private long timed(WarmUpStep step) {
+        long start = System.nanoTime();
+        try {
+            step.run();
+        } catch (Exception e) {
+            LOG.warn("Falha no aquecimento (os testes seguem sem ele): {}", e.toString());
+        }
+        return elapsedMillis(start);
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    @FunctionalInterface
+    private interface WarmUpStep {
+        void run() throws Exception;
+    }
+}
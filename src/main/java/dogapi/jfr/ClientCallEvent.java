@@ -0,0 +1,51 @@
+package dogapi.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Evento JFR emitido pelo {@code DogApiClient} para cada chamada que devolve um modelo.
+ *
+ * Engloba o {@link HttpRequestEvent} correspondente e acrescenta o tempo de conversão do
+ * corpo para o modelo, permitindo separar latência de rede de custo local.
+ */
+@Name("dogapi.ClientCall")
+@Label("Dog API Client Call")
+@Category({"Dog API", "Client"})
+@Description("Chamada do DogApiClient convertida para modelo")
+@StackTrace(false)
+public class ClientCallEvent extends Event {
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Model Type")
+    public String modelType;
+
+    @Label("Transport")
+    public String transport;
+
+    @Label("Status Code")
+    public int statusCode;
+
+    @Label("Request Time")
+    @Timespan
+    public long requestNanos;
+
+    @Label("Mapping Time")
+    @Description("Deserialização do corpo para o modelo")
+    @Timespan
+    public long mappingNanos;
+
+    @Label("Coalesced")
+    @Description("Resposta compartilhada de uma requisição idêntica de outra thread; sem HttpRequestEvent próprio")
+    public boolean coalesced;
+
+    @Label("Error")
+    public String error;
+}
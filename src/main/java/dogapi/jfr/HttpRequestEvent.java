@@ -0,0 +1,110 @@
+package dogapi.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+import java.util.Map;
+
+/**
+ * Evento JFR emitido para cada requisição HTTP, qualquer que seja o transporte: o
+ * {@code AllureRestAssuredFilter} (REST Assured) e os transportes do JDK e do HttpClient 5 usam
+ * {@link #start()} e {@link #finish}.
+ *
+ * A duração do evento cobre a requisição inteira; os campos {@code Timespan} separam o tempo
+ * da troca propriamente dita, da leitura do corpo, da descompressão e da geração dos anexos
+ * do Allure. Cada transporte preenche as fases que consegue separar.
+ * Sem gravação JFR ativa, {@code begin()}/{@code commit()} não têm custo relevante.
+ */
+@Name("dogapi.HttpRequest")
+@Label("Dog API HTTP Request")
+@Category({"Dog API", "HTTP"})
+@Description("Requisição HTTP feita pelo DogApiClient")
+@StackTrace(false)
+public class HttpRequestEvent extends Event {
+
+    @Label("Method")
+    public String method;
+
+    @Label("Endpoint")
+    @Description("Caminho declarado, com os parâmetros ainda não substituídos")
+    public String endpoint;
+
+    @Label("Path Parameters")
+    public String pathParams;
+
+    @Label("URL")
+    public String url;
+
+    @Label("Status Code")
+    public int statusCode;
+
+    @Label("Request Bytes")
+    @DataAmount
+    public long requestBytes;
+
+    @Label("Response Bytes")
+    @DataAmount
+    public long responseBytes;
+
+    @Label("Exchange Time")
+    @Description("Envio da requisição e recebimento da resposta (no HttpClient 5 inclui o corpo, recebido inteiro em memória)")
+    @Timespan
+    public long exchangeNanos;
+
+    @Label("Body Read Time")
+    @Description("Leitura do corpo (no HttpClient do JDK inclui a descompressão, feita em fluxo)")
+    @Timespan
+    public long bodyReadNanos;
+
+    @Label("Decode Time")
+    @Description("Descompressão do corpo já recebido (HttpClient 5)")
+    @Timespan
+    public long decodeNanos;
+
+    @Label("Report Time")
+    @Description("Geração dos steps e anexos do Allure")
+    @Timespan
+    public long reportNanos;
+
+    @Label("Error")
+    public String error;
+
+    /**
+     * Cria o evento e marca o início da requisição.
+     */
+    public static HttpRequestEvent start() {
+        HttpRequestEvent event = new HttpRequestEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Preenche os campos comuns e grava o evento (nada é feito sem gravação JFR ativa).
+     *
+     * @param statusCode    status da resposta (0 em caso de falha)
+     * @param responseBytes tamanho do corpo recebido, já descomprimido
+     * @param error         falha da requisição ({@code null} em caso de sucesso)
+     */
+    public void finish(String method, String endpoint, Map<String, ?> pathParams, String url, int statusCode,
+                       long responseBytes, long exchangeNanos, long bodyReadNanos, Throwable error) {
+        if (!shouldCommit()) {
+            return;
+        }
+        this.method = method;
+        this.endpoint = endpoint;
+        this.pathParams = pathParams.toString();
+        this.url = url;
+        this.statusCode = statusCode;
+        this.responseBytes = responseBytes;
+        this.exchangeNanos = exchangeNanos;
+        this.bodyReadNanos = bodyReadNanos;
+        this.error = error != null ? error.toString() : null;
+        commit();
+    }
+}
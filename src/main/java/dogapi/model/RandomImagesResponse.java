@@ -0,0 +1,39 @@
+package dogapi.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * Classe que representa a resposta do endpoint /breeds/image/random/{count}
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class RandomImagesResponse extends BaseResponse {
+    
+    @JsonProperty("message")
+    private List<String> message;
+
+    public RandomImagesResponse() {}
+
+    public RandomImagesResponse(List<String> message, String status) {
+        super(status);
+        this.message = message;
+    }
+
+    public List<String> getMessage() {
+        return message;
+    }
+
+    public void setMessage(List<String> message) {
+        this.message = message;
+    }
+
+    @Override
+    public String toString() {
+        return "RandomImagesResponse{" +
+                "message=" + message +
+                ", status='" + getStatus() + '\'' +
+                '}';
+    }
+}
\ No newline at end of file
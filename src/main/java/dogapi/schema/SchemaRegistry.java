@@ -0,0 +1,77 @@
+package dogapi.schema;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.fge.jsonschema.core.exceptions.ProcessingException;
+import com.github.fge.jsonschema.main.JsonSchema;
+import com.github.fge.jsonschema.main.JsonSchemaFactory;
+import dogapi.util.JsonMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Cache dos schemas dos modelos em {@code dogapi.model}.
+ *
+ * Cada schema é lido de {@code schemas/<Modelo>.json} e compilado uma única vez, tanto para o
+ * validador completo (json-schema-validator) quanto para a forma usada na validação durante o
+ * parsing ({@link StreamingSchema}). Os objetos compilados são imutáveis e compartilhados entre
+ * threads; depois da primeira carga a busca é uma leitura no {@link ConcurrentHashMap}.
+ */
+public final class SchemaRegistry {
+
+    private static final JsonSchemaFactory FACTORY = JsonSchemaFactory.byDefault();
+    private static final ConcurrentMap<Class<?>, Entry> CACHE = new ConcurrentHashMap<>();
+
+    private SchemaRegistry() {
+        // Classe utilitária - construtor privado
+    }
+
+    /**
+     * Schema compilado de um modelo.
+     *
+     * @param name      nome do schema (nome simples do modelo)
+     * @param schema    schema completo para validação sobre a árvore JSON
+     * @param streaming forma para validação durante o parsing, ou {@code null} se o schema
+     *                  usar palavras-chave fora do subconjunto suportado
+     */
+    record Entry(String name, JsonSchema schema, StreamingSchema streaming) {
+    }
+
+    static Entry entry(Class<?> type) {
+        Entry entry = CACHE.get(type);
+        return entry != null ? entry : CACHE.computeIfAbsent(type, SchemaRegistry::compile);
+    }
+
+    /**
+     * Compila antecipadamente os schemas dos modelos informados.
+     */
+    public static void preload(Collection<? extends Class<?>> types) {
+        types.forEach(SchemaRegistry::entry);
+    }
+
+    /**
+     * Indica se o schema do modelo pode ser validado durante o parsing.
+     */
+    public static boolean isStreamable(Class<?> type) {
+        return entry(type).streaming() != null;
+    }
+
+    private static Entry compile(Class<?> type) {
+        String resource = "schemas/" + type.getSimpleName() + ".json";
+        try (InputStream input = SchemaRegistry.class.getClassLoader().getResourceAsStream(resource)) {
+            if (input == null) {
+                throw new IllegalArgumentException("Schema não encontrado para " + type.getName() + ": " + resource);
+            }
+            JsonNode node = JsonMapper.shared().readTree(input);
+            return new Entry(type.getSimpleName(), FACTORY.getJsonSchema(node), StreamingSchema.compile(node));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erro ao ler " + resource, e);
+        } catch (ProcessingException e) {
+            throw new IllegalStateException("Schema inválido em " + resource + ": " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package dogapi.schema;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.github.fge.jsonschema.core.report.LogLevel;
+import com.github.fge.jsonschema.core.report.ProcessingMessage;
+import com.github.fge.jsonschema.core.report.ProcessingReport;
+import dogapi.util.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Validação de corpos de resposta contra os schemas de {@code schemas/}.
+ *
+ * <ul>
+ *   <li>{@link #validate(Class, String, JsonNode)} - validação completa (draft-04) sobre a árvore JSON;</li>
+ *   <li>{@link #validateStreaming(Class, String, InputStream)} - valida durante o parsing, sem montar
+ *       a árvore; usa a validação completa quando o schema não é suportado em streaming;</li>
+ *   <li>{@link #read(Class, String, InputStream)} - valida e converte para o modelo na mesma leitura;</li>
+ *   <li>{@link #validateAll(Class, Map)} - valida vários corpos em paralelo.</li>
+ * </ul>
+ *
+ * JSON malformado não lança exceção: vira uma violação com a palavra-chave {@code syntax}.
+ */
+public final class SchemaValidator {
+
+    private SchemaValidator() {
+        // Classe utilitária - construtor privado
+    }
+
+    /**
+     * Valida a árvore JSON com o schema completo do modelo.
+     */
+    public static ValidationReport validate(Class<?> type, String source, JsonNode body) {
+        long start = System.nanoTime();
+        SchemaRegistry.Entry entry = SchemaRegistry.entry(type);
+        ProcessingReport report = entry.schema().validateUnchecked(body, true);
+        List<SchemaViolation> violations = new ArrayList<>();
+        for (ProcessingMessage message : report) {
+            if (message.getLogLevel().compareTo(LogLevel.ERROR) < 0) {
+                continue;
+            }
+            JsonNode json = message.asJson();
+            violations.add(new SchemaViolation(json.path("instance").path("pointer").asText(),
+                    json.path("keyword").asText("processing"), message.getMessage()));
+        }
+        return new ValidationReport(source, entry.name(), violations, false, System.nanoTime() - start);
+    }
+
+    /**
+     * Valida um corpo textual com o schema completo do modelo.
+     */
+    public static ValidationReport validate(Class<?> type, String source, String body) {
+        long start = System.nanoTime();
+        JsonNode tree;
+        try {
+            tree = JsonMapper.shared().readTree(body);
+        } catch (JsonProcessingException e) {
+            return syntaxError(type, source, e, false, start);
+        }
+        ValidationReport report = validate(type, source, tree);
+        return new ValidationReport(source, report.schema(), report.violations(), false, System.nanoTime() - start);
+    }
+
+    /**
+     * Valida o stream durante o parsing (caminho rápido para varreduras grandes).
+     */
+    public static ValidationReport validateStreaming(Class<?> type, String source, InputStream body) throws IOException {
+        return parse(type, source, body, null).report();
+    }
+
+    /**
+     * Valida o stream e converte o corpo para o modelo sem uma segunda leitura: os tokens
+     * percorridos na validação são guardados e reaproveitados pelo Jackson.
+     */
+    public static <T> Validated<T> read(Class<T> type, String source, InputStream body) throws IOException {
+        return parse(type, source, body, type);
+    }
+
+    /**
+     * Valida vários corpos em paralelo, preservando a ordem do mapa (origem -> corpo).
+     */
+    public static List<ValidationReport> validateAll(Class<?> type, Map<String, String> bodies) {
+        SchemaRegistry.entry(type);
+        return bodies.entrySet().parallelStream()
+                .map(body -> validateStreaming(type, body.getKey(), body.getValue()))
+                .toList();
+    }
+
+    private static ValidationReport validateStreaming(Class<?> type, String source, String body) {
+        try {
+            return validateStreaming(type, source,
+                    new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+        } catch (IOException e) {
+            // Não ocorre com streams em memória; erros de sintaxe já viram violações
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static <T> Validated<T> parse(Class<?> type, String source, InputStream body, Class<T> target)
+            throws IOException {
+        long start = System.nanoTime();
+        SchemaRegistry.Entry entry = SchemaRegistry.entry(type);
+        ObjectMapper mapper = JsonMapper.shared();
+
+        if (entry.streaming() == null) {
+            JsonNode tree;
+            try {
+                tree = mapper.readTree(body);
+            } catch (JsonProcessingException e) {
+                return new Validated<>(null, syntaxError(type, source, e, false, start));
+            }
+            ValidationReport report = validate(type, source, tree);
+            T value = target != null ? mapper.treeToValue(tree, target) : null;
+            return new Validated<>(value, report);
+        }
+
+        try (JsonParser parser = mapper.getFactory().createParser(body)) {
+            TokenBuffer buffer = target != null ? new TokenBuffer(parser) : null;
+            List<SchemaViolation> violations;
+            try {
+                violations = entry.streaming().validate(parser, buffer);
+            } catch (JsonProcessingException e) {
+                return new Validated<>(null, syntaxError(type, source, e, true, start));
+            }
+            T value = null;
+            if (buffer != null) {
+                try (JsonParser tokens = buffer.asParser(mapper)) {
+                    value = mapper.readValue(tokens, target);
+                } catch (JsonProcessingException e) {
+                    // Corpo fora do schema que o Jackson não consegue mapear: as violações explicam
+                    value = null;
+                }
+            }
+            return new Validated<>(value,
+                    new ValidationReport(source, entry.name(), violations, true, System.nanoTime() - start));
+        }
+    }
+
+    private static ValidationReport syntaxError(Class<?> type, String source, JsonProcessingException e,
+                                                boolean streaming, long start) {
+        SchemaViolation violation = new SchemaViolation("", "syntax", e.getOriginalMessage());
+        return new ValidationReport(source, type.getSimpleName(), List.of(violation), streaming,
+                System.nanoTime() - start);
+    }
+}
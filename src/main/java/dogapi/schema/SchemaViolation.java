@@ -0,0 +1,16 @@
+package dogapi.schema;
+
+/**
+ * Violação de schema encontrada em um corpo de resposta.
+ *
+ * @param pointer JSON Pointer do valor inválido ({@code ""} para a raiz)
+ * @param keyword palavra-chave do schema que falhou (ex.: {@code type}, {@code pattern})
+ * @param message descrição da falha
+ */
+public record SchemaViolation(String pointer, String keyword, String message) {
+
+    @Override
+    public String toString() {
+        return (pointer.isEmpty() ? "/" : pointer) + " [" + keyword + "] " + message;
+    }
+}
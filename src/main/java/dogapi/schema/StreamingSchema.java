@@ -0,0 +1,300 @@
+package dogapi.schema;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Forma compilada de um schema para validação durante o parsing.
+ *
+ * Cobre o subconjunto do draft-04 usado em {@code schemas/}: {@code type}, {@code enum}
+ * (de strings), {@code pattern}, {@code minLength}, {@code required}, {@code properties},
+ * {@code additionalProperties}, {@code minProperties}, {@code items} e {@code minItems}.
+ * Schemas com outras palavras-chave não compilam e são validados pela árvore JSON.
+ *
+ * O documento é percorrido token a token; valores sem schema são pulados sem materializar,
+ * e o caminho só vira JSON Pointer quando há violação.
+ */
+final class StreamingSchema {
+
+    private static final Set<String> ANNOTATIONS = Set.of("$schema", "title", "description");
+    private static final Set<String> KEYWORDS = Set.of("type", "enum", "pattern", "minLength",
+            "required", "properties", "additionalProperties", "minProperties", "items", "minItems");
+
+    private Set<String> types;
+    private Set<String> enumValues;
+    private Pattern pattern;
+    private int minLength = -1;
+    private List<String> required = List.of();
+    private Map<String, StreamingSchema> properties = Map.of();
+    private StreamingSchema additionalProperties;
+    private boolean additionalAllowed = true;
+    private int minProperties = -1;
+    private StreamingSchema items;
+    private int minItems = -1;
+
+    private StreamingSchema() {
+    }
+
+    /**
+     * Compila o schema; retorna {@code null} se ele usar palavras-chave fora do subconjunto.
+     */
+    static StreamingSchema compile(JsonNode node) {
+        if (!node.isObject()) {
+            return null;
+        }
+        StreamingSchema schema = new StreamingSchema();
+        for (Iterator<Map.Entry<String, JsonNode>> fields = node.fields(); fields.hasNext(); ) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            String keyword = field.getKey();
+            JsonNode value = field.getValue();
+            if (ANNOTATIONS.contains(keyword)) {
+                continue;
+            }
+            if (!KEYWORDS.contains(keyword)) {
+                return null;
+            }
+            switch (keyword) {
+                case "type" -> schema.types = strings(value);
+                case "enum" -> {
+                    schema.enumValues = strings(value);
+                    if (schema.enumValues == null) {
+                        return null;
+                    }
+                }
+                case "pattern" -> schema.pattern = Pattern.compile(value.asText());
+                case "minLength" -> schema.minLength = value.asInt();
+                case "required" -> schema.required = List.copyOf(strings(value));
+                case "minProperties" -> schema.minProperties = value.asInt();
+                case "minItems" -> schema.minItems = value.asInt();
+                case "properties" -> {
+                    Map<String, StreamingSchema> compiled = new HashMap<>();
+                    for (Iterator<Map.Entry<String, JsonNode>> it = value.fields(); it.hasNext(); ) {
+                        Map.Entry<String, JsonNode> property = it.next();
+                        StreamingSchema child = compile(property.getValue());
+                        if (child == null) {
+                            return null;
+                        }
+                        compiled.put(property.getKey(), child);
+                    }
+                    schema.properties = compiled;
+                }
+                case "additionalProperties" -> {
+                    if (value.isBoolean()) {
+                        schema.additionalAllowed = value.asBoolean();
+                    } else if ((schema.additionalProperties = compile(value)) == null) {
+                        return null;
+                    }
+                }
+                case "items" -> {
+                    if ((schema.items = compile(value)) == null) {
+                        return null;
+                    }
+                }
+                default -> throw new IllegalStateException(keyword);
+            }
+        }
+        if (schema.required.stream().distinct().count() != schema.required.size()) {
+            return null;
+        }
+        return schema;
+    }
+
+    private static Set<String> strings(JsonNode value) {
+        Set<String> result = new HashSet<>();
+        if (value.isTextual()) {
+            result.add(value.asText());
+            return result;
+        }
+        for (JsonNode element : value) {
+            if (!element.isTextual()) {
+                return null;
+            }
+            result.add(element.asText());
+        }
+        return result;
+    }
+
+    /**
+     * Valida o documento do parser, que deve estar antes do primeiro token. Se {@code buffer}
+     * não for nulo, todos os tokens lidos são copiados para ele (para conversão posterior
+     * em modelo sem reler o corpo).
+     */
+    List<SchemaViolation> validate(JsonParser parser, TokenBuffer buffer) throws IOException {
+        Walk walk = new Walk(parser, buffer);
+        if (parser.nextToken() == null) {
+            walk.violation("type", "Documento vazio");
+            return walk.violations;
+        }
+        walk.value(this);
+        return walk.violations;
+    }
+
+    /**
+     * Estado de uma validação: parser, pilha do caminho atual e violações.
+     */
+    private static final class Walk {
+
+        private final JsonParser parser;
+        private final TokenBuffer buffer;
+        private final List<SchemaViolation> violations = new ArrayList<>();
+        private Object[] path = new Object[16];
+        private int depth;
+
+        private Walk(JsonParser parser, TokenBuffer buffer) {
+            this.parser = parser;
+            this.buffer = buffer;
+        }
+
+        private void value(StreamingSchema schema) throws IOException {
+            JsonToken token = parser.currentToken();
+            if (schema == null) {
+                skip();
+                return;
+            }
+            String type = typeOf(token);
+            if (schema.types != null && !matches(schema.types, type)) {
+                violation("type", "Tipo " + type + " não permitido, esperado " + schema.types);
+                skip();
+                return;
+            }
+            copy();
+            switch (token) {
+                case START_OBJECT -> object(schema);
+                case START_ARRAY -> array(schema);
+                case VALUE_STRING -> string(schema, parser.getText());
+                default -> {
+                    if (schema.enumValues != null) {
+                        violation("enum", "Valor " + parser.getText() + " fora de " + schema.enumValues);
+                    }
+                }
+            }
+        }
+
+        private void object(StreamingSchema schema) throws IOException {
+            boolean[] present = new boolean[schema.required.size()];
+            int count = 0;
+            JsonToken token;
+            while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+                copy();
+                String name = parser.currentName();
+                count++;
+                int index = schema.required.indexOf(name);
+                if (index >= 0) {
+                    present[index] = true;
+                }
+                parser.nextToken();
+                StreamingSchema child = schema.properties.get(name);
+                if (child == null && !schema.properties.containsKey(name)) {
+                    if (!schema.additionalAllowed) {
+                        violation("additionalProperties", "Propriedade não permitida: " + name);
+                    }
+                    child = schema.additionalProperties;
+                }
+                push(name);
+                value(child);
+                depth--;
+            }
+            copy();
+            for (int i = 0; i < present.length; i++) {
+                if (!present[i]) {
+                    violation("required", "Propriedade obrigatória ausente: " + schema.required.get(i));
+                }
+            }
+            if (schema.minProperties >= 0 && count < schema.minProperties) {
+                violation("minProperties", count + " propriedade(s), mínimo " + schema.minProperties);
+            }
+            if (token != JsonToken.END_OBJECT) {
+                throw new JsonParseException(parser, "Objeto JSON não terminado");
+            }
+        }
+
+        private void array(StreamingSchema schema) throws IOException {
+            int count = 0;
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+                push(count++);
+                value(schema.items);
+                depth--;
+            }
+            copy();
+            if (schema.minItems >= 0 && count < schema.minItems) {
+                violation("minItems", count + " item(ns), mínimo " + schema.minItems);
+            }
+            if (token == null) {
+                throw new JsonParseException(parser, "Array JSON não terminado");
+            }
+        }
+
+        private void string(StreamingSchema schema, String text) {
+            if (schema.enumValues != null && !schema.enumValues.contains(text)) {
+                violation("enum", "Valor \"" + text + "\" fora de " + schema.enumValues);
+            }
+            if (schema.minLength >= 0 && text.codePointCount(0, text.length()) < schema.minLength) {
+                violation("minLength", "Tamanho menor que " + schema.minLength);
+            }
+            if (schema.pattern != null && !schema.pattern.matcher(text).find()) {
+                violation("pattern", "\"" + text + "\" não segue " + schema.pattern.pattern());
+            }
+        }
+
+        private void copy() throws IOException {
+            if (buffer != null) {
+                buffer.copyCurrentEvent(parser);
+            }
+        }
+
+        private void skip() throws IOException {
+            if (buffer != null) {
+                buffer.copyCurrentStructure(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        private void push(Object segment) {
+            if (depth == path.length) {
+                path = Arrays.copyOf(path, depth * 2);
+            }
+            path[depth++] = segment;
+        }
+
+        private void violation(String keyword, String message) {
+            StringBuilder pointer = new StringBuilder();
+            for (int i = 0; i < depth; i++) {
+                pointer.append('/').append(path[i].toString().replace("~", "~0").replace("/", "~1"));
+            }
+            violations.add(new SchemaViolation(pointer.toString(), keyword, message));
+        }
+
+        private static String typeOf(JsonToken token) {
+            return switch (token) {
+                case START_OBJECT -> "object";
+                case START_ARRAY -> "array";
+                case VALUE_STRING -> "string";
+                case VALUE_NUMBER_INT -> "integer";
+                case VALUE_NUMBER_FLOAT -> "number";
+                case VALUE_TRUE, VALUE_FALSE -> "boolean";
+                case VALUE_NULL -> "null";
+                default -> throw new IllegalStateException("Token inesperado: " + token);
+            };
+        }
+
+        private static boolean matches(Set<String> allowed, String type) {
+            return allowed.contains(type) || ("integer".equals(type) && allowed.contains("number"));
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package dogapi.schema;
+
+/**
+ * Modelo lido de um stream junto com o relatório da validação feita no mesmo parsing.
+ *
+ * @param value  corpo convertido para o modelo ({@code null} se o JSON estiver malformado)
+ * @param report relatório de validação
+ */
+public record Validated<T>(T value, ValidationReport report) {
+}
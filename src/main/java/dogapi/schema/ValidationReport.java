@@ -0,0 +1,38 @@
+package dogapi.schema;
+
+import java.util.List;
+
+/**
+ * Resultado da validação de um corpo contra o schema de um modelo.
+ *
+ * @param source    identificação do corpo validado (endpoint, arquivo, raça...)
+ * @param schema    nome do schema (nome simples do modelo)
+ * @param violations violações encontradas, na ordem em que aparecem no documento
+ * @param streaming {@code true} quando validado durante o parsing, sem montar a árvore JSON
+ * @param nanos     tempo gasto na validação
+ */
+public record ValidationReport(String source,
+                               String schema,
+                               List<SchemaViolation> violations,
+                               boolean streaming,
+                               long nanos) {
+
+    public ValidationReport {
+        violations = List.copyOf(violations);
+    }
+
+    public boolean isValid() {
+        return violations.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder()
+                .append(source).append(" -> ").append(schema).append(": ")
+                .append(isValid() ? "válido" : violations.size() + " violação(ões)");
+        for (SchemaViolation violation : violations) {
+            text.append(System.lineSeparator()).append("  ").append(violation);
+        }
+        return text.toString();
+    }
+}
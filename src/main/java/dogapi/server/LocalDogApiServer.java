@@ -0,0 +1,233 @@
+package dogapi.server;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import dogapi.util.JsonMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Servidor HTTP local que imita a Dog API ({@code com.sun.net.httpserver}, sem dependências).
+ *
+ * Serve respostas registradas por caminho e gera as imagens aleatórias de
+ * {@code /breeds/image/random[/{count}]} a partir das imagens cadastradas. Caminhos
+ * desconhecidos devolvem 404 no mesmo formato de erro da API real. Com {@link #serveDirectory(Path)},
+ * caminhos sem rota são lidos de arquivos {@code {caminho}.json} (ex.: um dataset sintético),
+ * enviados em fluxo sem carregar o arquivo em memória. Como a API real, comprime com
+ * gzip as respostas a partir de {@value #GZIP_MIN_LENGTH} bytes quando o cliente aceita. Usado em benchmarks e em testes que não podem
+ * depender da rede.
+ */
+public class LocalDogApiServer implements AutoCloseable {
+
+    private static final Pattern RANDOM = Pattern.compile("/breeds/image/random(?:/(\\d+))?");
+    /** Respostas menores ficariam maiores comprimidas. */
+    public static final int GZIP_MIN_LENGTH = 256;
+
+    private static final Pattern GZIP = Pattern.compile("(^|[,\\s])gzip\\b");
+    private static final byte[] NOT_FOUND = ("{\"status\":\"error\","
+            + "\"message\":\"Breed not found (main breed does not exist)\",\"code\":404}")
+            .getBytes(StandardCharsets.UTF_8);
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<String, byte[]> routes = new ConcurrentHashMap<>();
+    private final List<String> randomPool = new ArrayList<>();
+    private volatile boolean gzip = true;
+    private volatile Path directory;
+
+    private LocalDogApiServer(int port) throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 256);
+        server.createContext("/api", this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    /**
+     * Inicia o servidor em uma porta livre.
+     */
+    public static LocalDogApiServer start() throws IOException {
+        return new LocalDogApiServer(0);
+    }
+
+    /**
+     * Inicia o servidor com um catálogo de exemplo: {@code breeds} raças (a primeira é
+     * {@code retriever}, com as sub-raças reais) e {@code imagesPerBreed} imagens por raça.
+     */
+    public static LocalDogApiServer withSampleCatalog(int breeds, int imagesPerBreed) throws IOException {
+        LocalDogApiServer server = start();
+        Map<String, List<String>> catalog = new LinkedHashMap<>();
+        for (int i = 0; i < breeds; i++) {
+            String breed = i == 0 ? "retriever" : "breed" + i;
+            catalog.put(breed, i == 0 ? List.of("chesapeake", "curly", "flatcoated", "golden") : List.of());
+            List<String> images = new ArrayList<>();
+            for (int j = 0; j < imagesPerBreed; j++) {
+                images.add(String.format("https://images.dog.ceo/breeds/%s/n%08d_%d.jpg", breed, i, j));
+            }
+            server.breedImages(breed, images);
+        }
+        server.route("/breeds/list/all", success(catalog));
+        return server;
+    }
+
+    /**
+     * Registra o corpo JSON servido (status 200) em um caminho relativo a {@code /api}.
+     */
+    public LocalDogApiServer route(String path, byte[] json) {
+        routes.put(path, json);
+        return this;
+    }
+
+    /**
+     * Registra {@code /breed/{breed}/images} e inclui as imagens no sorteio de imagens aleatórias.
+     */
+    public LocalDogApiServer breedImages(String breed, List<String> images) {
+        route("/breed/" + breed + "/images", success(images));
+        synchronized (randomPool) {
+            randomPool.addAll(images);
+        }
+        return this;
+    }
+
+    /**
+     * Serve os caminhos sem rota registrada a partir de {@code directory/{caminho}.json}
+     * (o layout do {@code SyntheticDataset}); caminhos fora do diretório devolvem 404.
+     */
+    public LocalDogApiServer serveDirectory(Path directory) {
+        this.directory = directory.toAbsolutePath().normalize();
+        return this;
+    }
+
+    /**
+     * Liga ou desliga a compressão gzip das respostas (ligada por padrão).
+     */
+    public LocalDogApiServer gzip(boolean enabled) {
+        this.gzip = enabled;
+        return this;
+    }
+
+    /**
+     * URL base equivalente a {@code https://dog.ceo/api}.
+     */
+    public String getBaseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + "/api";
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String path = exchange.getRequestURI().getRawPath().substring("/api".length());
+            byte[] body = routes.get(path);
+            Matcher random = RANDOM.matcher(path);
+            if (body == null && random.matches()) {
+                body = random(random.group(1));
+            }
+            Path file = body == null ? file(path) : null;
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            if (file != null) {
+                sendFile(exchange, file);
+                return;
+            }
+            int status = body != null ? 200 : 404;
+            if (body == null) {
+                body = NOT_FOUND;
+            }
+            if (gzip && body.length >= GZIP_MIN_LENGTH && acceptsGzip(exchange)) {
+                exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+                exchange.sendResponseHeaders(status, 0);
+                try (OutputStream out = new GZIPOutputStream(exchange.getResponseBody(), 8192)) {
+                    out.write(body);
+                }
+            } else {
+                exchange.sendResponseHeaders(status, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            }
+        }
+    }
+
+    /**
+     * Arquivo do diretório servido para o caminho, ou {@code null} se não existir.
+     */
+    private Path file(String path) {
+        Path root = directory;
+        if (root == null || path.length() < 2) {
+            return null;
+        }
+        Path file = root.resolve(path.substring(1) + ".json").normalize();
+        return file.startsWith(root) && Files.isRegularFile(file) ? file : null;
+    }
+
+    private void sendFile(HttpExchange exchange, Path file) throws IOException {
+        long size = Files.size(file);
+        if (gzip && size >= GZIP_MIN_LENGTH && acceptsGzip(exchange)) {
+            exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = new GZIPOutputStream(exchange.getResponseBody(), 65536)) {
+                Files.copy(file, out);
+            }
+        } else {
+            exchange.sendResponseHeaders(200, size);
+            try (OutputStream out = exchange.getResponseBody()) {
+                Files.copy(file, out);
+            }
+        }
+    }
+
+    private static boolean acceptsGzip(HttpExchange exchange) {
+        String accept = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+        return accept != null && GZIP.matcher(accept).find();
+    }
+
+    private byte[] random(String count) {
+        synchronized (randomPool) {
+            if (randomPool.isEmpty()) {
+                return null;
+            }
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            if (count == null) {
+                return success(randomPool.get(random.nextInt(randomPool.size())));
+            }
+            List<String> images = new ArrayList<>();
+            for (int i = 0; i < Math.min(Integer.parseInt(count), 50); i++) {
+                images.add(randomPool.get(random.nextInt(randomPool.size())));
+            }
+            return success(images);
+        }
+    }
+
+    private static byte[] success(Object message) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("message", message);
+        body.put("status", "success");
+        try {
+            return JsonMapper.shared().writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
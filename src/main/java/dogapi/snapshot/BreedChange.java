@@ -0,0 +1,41 @@
+package dogapi.snapshot;
+
+import java.util.List;
+
+/**
+ * Alteração de uma raça entre dois snapshots do catálogo.
+ *
+ * As listas são ordenadas. Para {@link Kind#ADDED} contêm todo o conteúdo da raça nova; para
+ * {@link Kind#REMOVED} o conteúdo removido (vazio quando lido de um delta armazenado, que não
+ * precisa dele para reconstruir a versão).
+ */
+public record BreedChange(String breed,
+                          Kind kind,
+                          List<String> addedSubBreeds,
+                          List<String> removedSubBreeds,
+                          List<String> addedImages,
+                          List<String> removedImages) {
+
+    public enum Kind {
+        ADDED,
+        REMOVED,
+        CHANGED
+    }
+
+    public BreedChange {
+        addedSubBreeds = List.copyOf(addedSubBreeds);
+        removedSubBreeds = List.copyOf(removedSubBreeds);
+        addedImages = List.copyOf(addedImages);
+        removedImages = List.copyOf(removedImages);
+    }
+
+    @Override
+    public String toString() {
+        return switch (kind) {
+            case ADDED -> "+ " + breed + " " + addedSubBreeds + " (" + addedImages.size() + " imagens)";
+            case REMOVED -> "- " + breed;
+            case CHANGED -> "~ " + breed + ": sub-raças +" + addedSubBreeds + " -" + removedSubBreeds
+                    + ", imagens +" + addedImages.size() + " -" + removedImages.size();
+        };
+    }
+}
@@ -0,0 +1,132 @@
+package dogapi.snapshot;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Diferenças entre duas versões do catálogo, agrupadas por raça em ordem alfabética.
+ *
+ * Calculado com merge das listas ordenadas dos dois snapshots (tempo linear no tamanho do
+ * catálogo). Raças com o mesmo hash de conteúdo são puladas sem comparar as listas, e
+ * snapshots com a mesma impressão digital resultam em diff vazio imediatamente. Imagens só são
+ * comparadas para raças com imagens capturadas nos dois snapshots: uma captura parcial
+ * ({@code --images none}, resposta de erro) não aparece como imagens removidas.
+ *
+ * @param fromVersion versão de origem (0 quando não há versão anterior)
+ * @param toVersion   versão de destino
+ * @param changes     alterações por raça
+ */
+public record CatalogDiff(int fromVersion, int toVersion, List<BreedChange> changes) {
+
+    public CatalogDiff {
+        changes = List.copyOf(changes);
+    }
+
+    /**
+     * Compara dois snapshots (versões 0 -> 0; o {@link SnapshotStore} preenche as versões).
+     */
+    public static CatalogDiff between(CatalogSnapshot from, CatalogSnapshot to) {
+        return compare(from, to, true);
+    }
+
+    /**
+     * Diff completo usado para gravar deltas: raças sem captura valem como lista vazia, de modo
+     * que {@code from} com o delta aplicado reproduz {@code to}.
+     */
+    static CatalogDiff delta(CatalogSnapshot from, CatalogSnapshot to) {
+        return compare(from, to, false);
+    }
+
+    private static CatalogDiff compare(CatalogSnapshot from, CatalogSnapshot to, boolean capturedOnly) {
+        if (from.getFingerprint() == to.getFingerprint()) {
+            return new CatalogDiff(0, 0, List.of());
+        }
+        List<BreedChange> changes = new ArrayList<>();
+        Iterator<Map.Entry<String, List<String>>> before = from.subBreedMap().entrySet().iterator();
+        Iterator<Map.Entry<String, List<String>>> after = to.subBreedMap().entrySet().iterator();
+        Map.Entry<String, List<String>> left = before.hasNext() ? before.next() : null;
+        Map.Entry<String, List<String>> right = after.hasNext() ? after.next() : null;
+
+        while (left != null || right != null) {
+            int order = left == null ? 1 : right == null ? -1 : left.getKey().compareTo(right.getKey());
+            if (order < 0) {
+                String breed = left.getKey();
+                changes.add(new BreedChange(breed, BreedChange.Kind.REMOVED,
+                        List.of(), left.getValue(), List.of(), from.getImages(breed)));
+                left = before.hasNext() ? before.next() : null;
+            } else if (order > 0) {
+                String breed = right.getKey();
+                changes.add(new BreedChange(breed, BreedChange.Kind.ADDED,
+                        right.getValue(), List.of(), to.getImages(breed), List.of()));
+                right = after.hasNext() ? after.next() : null;
+            } else {
+                String breed = left.getKey();
+                if (from.breedHash(breed) != to.breedHash(breed)) {
+                    changed(breed, from, to, capturedOnly, changes);
+                }
+                left = before.hasNext() ? before.next() : null;
+                right = after.hasNext() ? after.next() : null;
+            }
+        }
+        return new CatalogDiff(0, 0, changes);
+    }
+
+    private static void changed(String breed, CatalogSnapshot from, CatalogSnapshot to, boolean capturedOnly,
+                                List<BreedChange> changes) {
+        List<String> addedSubBreeds = new ArrayList<>();
+        List<String> removedSubBreeds = new ArrayList<>();
+        List<String> addedImages = new ArrayList<>();
+        List<String> removedImages = new ArrayList<>();
+        SortedMerge.diff(from.getSubBreeds(breed), to.getSubBreeds(breed), removedSubBreeds, addedSubBreeds);
+        if (!capturedOnly || (from.hasImages(breed) && to.hasImages(breed))) {
+            SortedMerge.diff(from.getImages(breed), to.getImages(breed), removedImages, addedImages);
+        }
+        if (!addedSubBreeds.isEmpty() || !removedSubBreeds.isEmpty() || !addedImages.isEmpty() || !removedImages.isEmpty()) {
+            changes.add(new BreedChange(breed, BreedChange.Kind.CHANGED,
+                    addedSubBreeds, removedSubBreeds, addedImages, removedImages));
+        }
+    }
+
+    CatalogDiff withVersions(int fromVersion, int toVersion) {
+        return new CatalogDiff(fromVersion, toVersion, changes);
+    }
+
+    public boolean isEmpty() {
+        return changes.isEmpty();
+    }
+
+    public List<String> addedBreeds() {
+        return breeds(BreedChange.Kind.ADDED);
+    }
+
+    public List<String> removedBreeds() {
+        return breeds(BreedChange.Kind.REMOVED);
+    }
+
+    private List<String> breeds(BreedChange.Kind kind) {
+        return changes.stream().filter(change -> change.kind() == kind).map(BreedChange::breed).toList();
+    }
+
+    /**
+     * Resumo em uma linha: raças, sub-raças e imagens adicionadas/removidas.
+     */
+    public String summary() {
+        int addedSubBreeds = 0;
+        int removedSubBreeds = 0;
+        int addedImages = 0;
+        int removedImages = 0;
+        for (BreedChange change : changes) {
+            if (change.kind() == BreedChange.Kind.CHANGED) {
+                addedSubBreeds += change.addedSubBreeds().size();
+                removedSubBreeds += change.removedSubBreeds().size();
+            }
+            addedImages += change.addedImages().size();
+            removedImages += change.removedImages().size();
+        }
+        return String.format("v%d -> v%d: raças +%d -%d, sub-raças +%d -%d, imagens +%d -%d",
+                fromVersion, toVersion, addedBreeds().size(), removedBreeds().size(),
+                addedSubBreeds, removedSubBreeds, addedImages, removedImages);
+    }
+}
@@ -0,0 +1,90 @@
+package dogapi.snapshot;
+
+import dogapi.client.DogApiClient;
+import dogapi.model.BreedImagesResponse;
+import dogapi.model.BreedsListResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Job de monitoramento do catálogo: captura o estado atual da API, compara com a última
+ * versão do {@link SnapshotStore} e grava uma nova versão (delta) apenas se houve mudança.
+ *
+ * Argumentos:
+ * <ul>
+ *   <li>{@code --store DIR} - diretório dos snapshots (padrão {@code target/catalog-snapshots})</li>
+ *   <li>{@code --images none|all|raça1,raça2} - raças cujas imagens também são monitoradas (padrão {@code none})</li>
+ *   <li>{@code --fail-on-change} - termina com código 1 quando o catálogo mudou</li>
+ * </ul>
+ *
+ * Uso: {@code mvn -q compile exec:java -Dexec.mainClass=dogapi.snapshot.CatalogMonitor -Dexec.args="--images all"}
+ */
+public class CatalogMonitor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CatalogMonitor.class);
+
+    public static void main(String[] args) throws Exception {
+        Path store = Paths.get("target/catalog-snapshots");
+        String images = "none";
+        boolean failOnChange = false;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--store" -> store = Paths.get(args[++i]);
+                case "--images" -> images = args[++i];
+                case "--fail-on-change" -> failOnChange = true;
+                default -> throw new IllegalArgumentException("Argumento desconhecido: " + args[i]);
+            }
+        }
+
+        CatalogDiff diff = run(new DogApiClient(), new SnapshotStore(store), images);
+        if (failOnChange && !diff.isEmpty() && diff.fromVersion() > 0) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Captura, compara e grava; retorna o diff em relação à versão anterior.
+     */
+    public static CatalogDiff run(DogApiClient client, SnapshotStore store, String images) throws Exception {
+        BreedsListResponse breeds = client.getAllBreedsAsObject();
+        Map<String, BreedImagesResponse> breedImages = new LinkedHashMap<>();
+        for (String breed : imageBreeds(images, breeds)) {
+            try {
+                breedImages.put(breed, client.getBreedImagesAsObject(breed));
+            } catch (RuntimeException e) {
+                // Uma raça com erro (ex.: 404) fica sem captura nesta versão; as demais seguem
+                LOG.warn("⚠️ Imagens de '{}' não capturadas: {}", breed, e.getMessage());
+            }
+        }
+
+        CatalogSnapshot snapshot = CatalogSnapshot.capture(breeds, breedImages);
+        CatalogDiff diff = store.save(snapshot);
+        if (diff.isEmpty()) {
+            LOG.info("✅ Catálogo inalterado desde a versão {} ({} raças, {} imagens)",
+                    diff.toVersion(), snapshot.getBreeds().size(), snapshot.getImageCount());
+        } else if (diff.fromVersion() == 0) {
+            LOG.info("📸 Primeira versão gravada em {}: {} raças, {} imagens",
+                    store.getDirectory(), snapshot.getBreeds().size(), snapshot.getImageCount());
+        } else {
+            LOG.warn("🔄 Catálogo mudou: {}", diff.summary());
+            diff.changes().forEach(change -> LOG.warn("  {}", change));
+        }
+        LOG.info("Armazenamento: {} versões, {} bytes", store.versions().size(), store.sizeOnDisk());
+        return diff;
+    }
+
+    private static List<String> imageBreeds(String images, BreedsListResponse breeds) {
+        return switch (images) {
+            case "none" -> List.of();
+            case "all" -> List.copyOf(breeds.getMessage().keySet());
+            default -> Arrays.stream(images.split(",")).map(String::trim).filter(breed -> !breed.isEmpty()).toList();
+        };
+    }
+}
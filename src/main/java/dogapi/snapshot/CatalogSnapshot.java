@@ -0,0 +1,221 @@
+package dogapi.snapshot;
+
+import dogapi.model.BreedImagesResponse;
+import dogapi.model.BreedsListResponse;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Retrato imutável do catálogo de raças (GET /breeds/list/all) e, opcionalmente, das listas
+ * de imagens por raça (GET /breed/{breed}/images).
+ *
+ * Raças, sub-raças e imagens ficam ordenadas, o que permite comparar snapshots com merge
+ * linear. Cada raça tem um hash do seu conteúdo e o snapshot tem uma impressão digital
+ * geral: snapshots iguais são detectados sem percorrer as listas.
+ *
+ * O snapshot registra de quais raças as imagens foram capturadas ({@link #hasImages(String)}):
+ * imagens não buscadas ou resposta de erro não são confundidas com uma lista vazia, e o
+ * {@link CatalogDiff} só compara imagens de raças capturadas nos dois snapshots. Para o hash e
+ * o armazenamento, raças sem captura valem como lista vazia.
+ */
+public final class CatalogSnapshot {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final Instant capturedAt;
+    private final SortedMap<String, List<String>> subBreeds;
+    private final SortedMap<String, List<String>> images;
+    private final Map<String, Long> breedHashes;
+    private final long fingerprint;
+
+    public CatalogSnapshot(Instant capturedAt, Map<String, List<String>> subBreeds, Map<String, List<String>> images) {
+        this.capturedAt = capturedAt;
+        this.subBreeds = sortedCopy(subBreeds);
+        this.images = sortedCopy(images);
+        if (!this.subBreeds.keySet().containsAll(this.images.keySet())) {
+            List<String> unknown = new ArrayList<>(this.images.keySet());
+            unknown.removeAll(this.subBreeds.keySet());
+            throw new IllegalArgumentException("Imagens de raças fora do catálogo: " + unknown);
+        }
+        this.breedHashes = new HashMap<>(this.subBreeds.size() * 2);
+        long hash = FNV_OFFSET;
+        for (Map.Entry<String, List<String>> breed : this.subBreeds.entrySet()) {
+            long breedHash = hashBreed(breed.getKey(), breed.getValue(), getImages(breed.getKey()));
+            breedHashes.put(breed.getKey(), breedHash);
+            hash = (hash ^ breedHash) * FNV_PRIME;
+        }
+        this.fingerprint = hash;
+    }
+
+    /**
+     * Monta o snapshot a partir das respostas da API.
+     *
+     * @param breeds resposta de /breeds/list/all
+     * @param images respostas de /breed/{breed}/images por raça (pode ser vazio); raças ausentes,
+     *               respostas {@code null} e respostas com status diferente de {@code success}
+     *               não contam como captura (o {@link CatalogMonitor} omite as raças cuja busca falhou)
+     */
+    public static CatalogSnapshot capture(BreedsListResponse breeds, Map<String, BreedImagesResponse> images) {
+        Map<String, List<String>> imageLists = new HashMap<>();
+        images.forEach((breed, response) -> {
+            if (response != null && response.isSuccess() && response.getMessage() != null) {
+                imageLists.put(breed, response.getMessage());
+            }
+        });
+        return new CatalogSnapshot(Instant.now(), breeds.getMessage(), imageLists);
+    }
+
+    /**
+     * Copia ordenando e removendo duplicatas; entradas {@code null} são descartadas.
+     */
+    private static SortedMap<String, List<String>> sortedCopy(Map<String, List<String>> source) {
+        SortedMap<String, List<String>> copy = new TreeMap<>();
+        source.forEach((key, values) -> {
+            if (values == null) {
+                return;
+            }
+            List<String> sorted = new ArrayList<>(values);
+            Collections.sort(sorted);
+            List<String> unique = new ArrayList<>(sorted.size());
+            for (String value : sorted) {
+                if (unique.isEmpty() || !unique.get(unique.size() - 1).equals(value)) {
+                    unique.add(value);
+                }
+            }
+            copy.put(key, List.copyOf(unique));
+        });
+        return Collections.unmodifiableSortedMap(copy);
+    }
+
+    private static long hashBreed(String breed, List<String> subBreeds, List<String> images) {
+        long hash = hash(FNV_OFFSET, breed);
+        for (String subBreed : subBreeds) {
+            hash = hash(hash * FNV_PRIME ^ 1, subBreed);
+        }
+        hash = hash * FNV_PRIME ^ 2;
+        for (String image : images) {
+            hash = hash(hash * FNV_PRIME ^ 3, image);
+        }
+        return hash;
+    }
+
+    private static long hash(long hash, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    public Instant getCapturedAt() {
+        return capturedAt;
+    }
+
+    /**
+     * Raças do catálogo, em ordem alfabética.
+     */
+    public Set<String> getBreeds() {
+        return subBreeds.keySet();
+    }
+
+    SortedMap<String, List<String>> subBreedMap() {
+        return subBreeds;
+    }
+
+    SortedMap<String, List<String>> imageMap() {
+        return images;
+    }
+
+    public List<String> getSubBreeds(String breed) {
+        return subBreeds.getOrDefault(breed, List.of());
+    }
+
+    /**
+     * Se as imagens da raça foram capturadas neste snapshot (mesmo que a lista esteja vazia).
+     */
+    public boolean hasImages(String breed) {
+        return images.containsKey(breed);
+    }
+
+    /**
+     * Imagens da raça; vazio também quando não foram capturadas (ver {@link #hasImages(String)}).
+     */
+    public List<String> getImages(String breed) {
+        return images.getOrDefault(breed, List.of());
+    }
+
+    public int getImageCount() {
+        return images.values().stream().mapToInt(List::size).sum();
+    }
+
+    /**
+     * Impressão digital do conteúdo (independe de {@link #getCapturedAt()}).
+     */
+    public long getFingerprint() {
+        return fingerprint;
+    }
+
+    long breedHash(String breed) {
+        return breedHashes.getOrDefault(breed, 0L);
+    }
+
+    /**
+     * Versão gravada pelo {@link SnapshotStore}: raças cujas imagens não foram capturadas agora
+     * mantêm as últimas imagens conhecidas em {@code previous}. Listas vazias são descartadas,
+     * como na reconstrução a partir dos arquivos.
+     */
+    CatalogSnapshot forStorage(CatalogSnapshot previous) {
+        Map<String, List<String>> stored = new HashMap<>();
+        for (String breed : subBreeds.keySet()) {
+            List<String> known = hasImages(breed) ? getImages(breed) : previous.getImages(breed);
+            if (!known.isEmpty()) {
+                stored.put(breed, known);
+            }
+        }
+        return new CatalogSnapshot(capturedAt, subBreeds, stored);
+    }
+
+    /**
+     * Aplica as alterações de um {@link CatalogDiff} e retorna o snapshot resultante.
+     */
+    CatalogSnapshot apply(CatalogDiff diff, Instant capturedAt) {
+        Map<String, List<String>> newSubBreeds = new HashMap<>(subBreeds);
+        Map<String, List<String>> newImages = new HashMap<>(images);
+        for (BreedChange change : diff.changes()) {
+            String breed = change.breed();
+            switch (change.kind()) {
+                case ADDED -> {
+                    newSubBreeds.put(breed, change.addedSubBreeds());
+                    putImages(newImages, breed, change.addedImages());
+                }
+                case REMOVED -> {
+                    newSubBreeds.remove(breed);
+                    newImages.remove(breed);
+                }
+                case CHANGED -> {
+                    newSubBreeds.put(breed, SortedMerge.patch(getSubBreeds(breed),
+                            change.removedSubBreeds(), change.addedSubBreeds()));
+                    putImages(newImages, breed, SortedMerge.patch(getImages(breed),
+                            change.removedImages(), change.addedImages()));
+                }
+            }
+        }
+        return new CatalogSnapshot(capturedAt, newSubBreeds, newImages);
+    }
+
+    private static void putImages(Map<String, List<String>> images, String breed, List<String> values) {
+        if (values.isEmpty()) {
+            images.remove(breed);
+        } else {
+            images.put(breed, values);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package dogapi.snapshot;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Formato binário dos arquivos do {@link SnapshotStore} (gravados dentro de GZIP).
+ *
+ * Listas ordenadas usam front coding: cada item guarda só o tamanho do prefixo em comum com
+ * o anterior e o sufixo. URLs de imagens de uma raça compartilham quase todo o caminho, então
+ * sobra pouco além do nome do arquivo antes mesmo da compressão.
+ */
+final class SnapshotCodec {
+
+    private static final int FULL_MAGIC = 0x44435331;  // "DCS1"
+    private static final int DELTA_MAGIC = 0x44434431; // "DCD1"
+
+    private SnapshotCodec() {
+        // Classe utilitária - construtor privado
+    }
+
+    static void writeFull(DataOutputStream out, CatalogSnapshot snapshot) throws IOException {
+        out.writeInt(FULL_MAGIC);
+        out.writeLong(snapshot.getCapturedAt().toEpochMilli());
+        writeVarInt(out, snapshot.subBreedMap().size());
+        String previous = "";
+        for (Map.Entry<String, List<String>> breed : snapshot.subBreedMap().entrySet()) {
+            writeFrontCoded(out, previous, breed.getKey());
+            previous = breed.getKey();
+            writeList(out, breed.getValue());
+            writeList(out, snapshot.getImages(breed.getKey()));
+        }
+    }
+
+    static CatalogSnapshot readFull(DataInputStream in) throws IOException {
+        expect(in.readInt(), FULL_MAGIC);
+        Instant capturedAt = Instant.ofEpochMilli(in.readLong());
+        int breeds = readVarInt(in);
+        Map<String, List<String>> subBreeds = new HashMap<>(breeds * 2);
+        Map<String, List<String>> images = new HashMap<>(breeds * 2);
+        String previous = "";
+        for (int i = 0; i < breeds; i++) {
+            String breed = readFrontCoded(in, previous);
+            previous = breed;
+            subBreeds.put(breed, readList(in));
+            List<String> breedImages = readList(in);
+            if (!breedImages.isEmpty()) {
+                images.put(breed, breedImages);
+            }
+        }
+        return new CatalogSnapshot(capturedAt, subBreeds, images);
+    }
+
+    /**
+     * Grava o delta; raças removidas vão sem conteúdo, que não é necessário para reconstruir.
+     */
+    static void writeDelta(DataOutputStream out, CatalogDiff diff, Instant capturedAt) throws IOException {
+        out.writeInt(DELTA_MAGIC);
+        writeVarInt(out, diff.fromVersion());
+        out.writeLong(capturedAt.toEpochMilli());
+        writeVarInt(out, diff.changes().size());
+        String previous = "";
+        for (BreedChange change : diff.changes()) {
+            writeFrontCoded(out, previous, change.breed());
+            previous = change.breed();
+            out.writeByte(change.kind().ordinal());
+            if (change.kind() != BreedChange.Kind.REMOVED) {
+                writeList(out, change.addedSubBreeds());
+                writeList(out, change.removedSubBreeds());
+                writeList(out, change.addedImages());
+                writeList(out, change.removedImages());
+            }
+        }
+    }
+
+    /**
+     * Lê um delta; retorna o diff e o instante de captura da versão de destino.
+     */
+    static Map.Entry<CatalogDiff, Instant> readDelta(DataInputStream in, int toVersion) throws IOException {
+        expect(in.readInt(), DELTA_MAGIC);
+        int fromVersion = readVarInt(in);
+        Instant capturedAt = Instant.ofEpochMilli(in.readLong());
+        int count = readVarInt(in);
+        List<BreedChange> changes = new ArrayList<>(count);
+        String previous = "";
+        for (int i = 0; i < count; i++) {
+            String breed = readFrontCoded(in, previous);
+            previous = breed;
+            BreedChange.Kind kind = BreedChange.Kind.values()[in.readUnsignedByte()];
+            if (kind == BreedChange.Kind.REMOVED) {
+                changes.add(new BreedChange(breed, kind, List.of(), List.of(), List.of(), List.of()));
+            } else {
+                changes.add(new BreedChange(breed, kind, readList(in), readList(in), readList(in), readList(in)));
+            }
+        }
+        return Map.entry(new CatalogDiff(fromVersion, toVersion, changes), capturedAt);
+    }
+
+    private static void writeList(DataOutputStream out, List<String> values) throws IOException {
+        writeVarInt(out, values.size());
+        String previous = "";
+        for (String value : values) {
+            writeFrontCoded(out, previous, value);
+            previous = value;
+        }
+    }
+
+    private static List<String> readList(DataInputStream in) throws IOException {
+        int size = readVarInt(in);
+        List<String> values = new ArrayList<>(size);
+        String previous = "";
+        for (int i = 0; i < size; i++) {
+            previous = readFrontCoded(in, previous);
+            values.add(previous);
+        }
+        return values;
+    }
+
+    private static void writeFrontCoded(DataOutputStream out, String previous, String value) throws IOException {
+        int common = 0;
+        int max = Math.min(previous.length(), value.length());
+        while (common < max && previous.charAt(common) == value.charAt(common)) {
+            common++;
+        }
+        // Não separa pares substitutos UTF-16 entre prefixo e sufixo
+        if (common > 0 && Character.isHighSurrogate(value.charAt(common - 1))) {
+            common--;
+        }
+        byte[] suffix = value.substring(common).getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, common);
+        writeVarInt(out, suffix.length);
+        out.write(suffix);
+    }
+
+    private static String readFrontCoded(DataInputStream in, String previous) throws IOException {
+        int common = readVarInt(in);
+        byte[] suffix = new byte[readVarInt(in)];
+        in.readFully(suffix);
+        return previous.substring(0, common) + new String(suffix, StandardCharsets.UTF_8);
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("VarInt inválido");
+    }
+
+    private static void expect(int magic, int expected) throws IOException {
+        if (magic != expected) {
+            throw new IOException(String.format("Arquivo de snapshot inválido (0x%08x)", magic));
+        }
+    }
+}
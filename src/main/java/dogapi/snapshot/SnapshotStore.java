@@ -0,0 +1,225 @@
+package dogapi.snapshot;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Armazenamento versionado de {@link CatalogSnapshot} em um diretório.
+ *
+ * A versão 1 e a cada {@code keyframeInterval} versões são gravadas completas
+ * ({@code catalog-000001.full.gz}); as demais guardam só o {@link CatalogDiff} em relação à
+ * anterior ({@code catalog-000002.delta.gz}). Carregar uma versão lê o último snapshot completo
+ * anterior a ela e aplica os deltas seguintes. Os arquivos usam o formato de {@link SnapshotCodec}.
+ *
+ * Raças cujas imagens não foram capturadas no snapshot salvo mantêm, na versão gravada, as
+ * últimas imagens conhecidas; assim capturas parciais não apagam o histórico de imagens.
+ *
+ * Não é seguro para vários processos gravando no mesmo diretório ao mesmo tempo.
+ */
+public class SnapshotStore {
+
+    public static final int DEFAULT_KEYFRAME_INTERVAL = 20;
+
+    private static final Pattern FILE_NAME = Pattern.compile("catalog-(\\d{6})\\.(full|delta)\\.gz");
+
+    private final Path directory;
+    private final int keyframeInterval;
+    private int cachedVersion;
+    private CatalogSnapshot cached;
+
+    public SnapshotStore(Path directory) {
+        this(directory, DEFAULT_KEYFRAME_INTERVAL);
+    }
+
+    public SnapshotStore(Path directory, int keyframeInterval) {
+        if (keyframeInterval < 1) {
+            throw new IllegalArgumentException("keyframeInterval deve ser positivo: " + keyframeInterval);
+        }
+        this.directory = directory;
+        this.keyframeInterval = keyframeInterval;
+    }
+
+    /**
+     * Versões armazenadas, em ordem crescente.
+     */
+    public List<Integer> versions() throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> FILE_NAME.matcher(file.getFileName().toString()))
+                    .filter(Matcher::matches)
+                    .map(matcher -> Integer.parseInt(matcher.group(1)))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    public OptionalInt latestVersion() throws IOException {
+        List<Integer> versions = versions();
+        return versions.isEmpty() ? OptionalInt.empty() : OptionalInt.of(versions.get(versions.size() - 1));
+    }
+
+    public Optional<CatalogSnapshot> latest() throws IOException {
+        OptionalInt version = latestVersion();
+        return version.isPresent() ? Optional.of(load(version.getAsInt())) : Optional.empty();
+    }
+
+    /**
+     * Reconstrói uma versão a partir do snapshot completo mais próximo e dos deltas seguintes.
+     */
+    public synchronized CatalogSnapshot load(int version) throws IOException {
+        if (cached != null && cachedVersion == version) {
+            return cached;
+        }
+        int keyframe = version;
+        while (!Files.exists(fullFile(keyframe))) {
+            if (keyframe <= 1 || !Files.exists(deltaFile(keyframe))) {
+                throw new IOException("Versão " + version + " não encontrada em " + directory);
+            }
+            keyframe--;
+        }
+        // Reaproveita a versão em cache se ela estiver no caminho de reconstrução
+        int start = cached != null && cachedVersion >= keyframe && cachedVersion < version ? cachedVersion : keyframe;
+        CatalogSnapshot snapshot = start == keyframe ? readFull(keyframe) : cached;
+        for (int v = start + 1; v <= version; v++) {
+            Map.Entry<CatalogDiff, Instant> delta = readDelta(v);
+            snapshot = snapshot.apply(delta.getKey(), delta.getValue());
+        }
+        cache(version, snapshot);
+        return snapshot;
+    }
+
+    /**
+     * Grava o snapshot como nova versão se ele diferir da última.
+     *
+     * @return diff da última versão para a nova; se o conteúdo não mudou, um diff vazio com
+     *         {@code toVersion} igual à última versão e nada é gravado. Imagens capturadas pela
+     *         primeira vez geram nova versão, mas não aparecem no diff
+     */
+    public synchronized CatalogDiff save(CatalogSnapshot snapshot) throws IOException {
+        OptionalInt latest = latestVersion();
+        Files.createDirectories(directory);
+        if (latest.isEmpty()) {
+            CatalogSnapshot empty = new CatalogSnapshot(snapshot.getCapturedAt(), Map.of(), Map.of());
+            CatalogSnapshot stored = snapshot.forStorage(empty);
+            writeFull(1, stored);
+            cache(1, stored);
+            return CatalogDiff.between(empty, snapshot).withVersions(0, 1);
+        }
+        int previous = latest.getAsInt();
+        CatalogSnapshot previousSnapshot = load(previous);
+        CatalogSnapshot stored = snapshot.forStorage(previousSnapshot);
+        CatalogDiff delta = CatalogDiff.delta(previousSnapshot, stored);
+        CatalogDiff diff = CatalogDiff.between(previousSnapshot, snapshot);
+        if (delta.isEmpty()) {
+            return diff.withVersions(previous, previous);
+        }
+        int version = previous + 1;
+        diff = diff.withVersions(previous, version);
+        if ((version - 1) % keyframeInterval == 0) {
+            writeFull(version, stored);
+        } else {
+            CatalogDiff storedDelta = delta.withVersions(previous, version);
+            write(deltaFile(version), out -> SnapshotCodec.writeDelta(out, storedDelta, snapshot.getCapturedAt()));
+        }
+        cache(version, stored);
+        return diff;
+    }
+
+    /**
+     * Compara duas versões armazenadas.
+     */
+    public CatalogDiff diff(int fromVersion, int toVersion) throws IOException {
+        CatalogSnapshot from = load(fromVersion);
+        CatalogSnapshot to = load(toVersion);
+        return CatalogDiff.between(from, to).withVersions(fromVersion, toVersion);
+    }
+
+    /**
+     * Espaço ocupado pelos arquivos de snapshot, em bytes.
+     */
+    public long sizeOnDisk() throws IOException {
+        long total = 0;
+        for (int version : versions()) {
+            Path file = Files.exists(fullFile(version)) ? fullFile(version) : deltaFile(version);
+            total += Files.size(file);
+        }
+        return total;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    private void cache(int version, CatalogSnapshot snapshot) {
+        cachedVersion = version;
+        cached = snapshot;
+    }
+
+    private CatalogSnapshot readFull(int version) throws IOException {
+        try (DataInputStream in = open(fullFile(version))) {
+            return SnapshotCodec.readFull(in);
+        }
+    }
+
+    private Map.Entry<CatalogDiff, Instant> readDelta(int version) throws IOException {
+        try (DataInputStream in = open(deltaFile(version))) {
+            return SnapshotCodec.readDelta(in, version);
+        }
+    }
+
+    private void writeFull(int version, CatalogSnapshot snapshot) throws IOException {
+        write(fullFile(version), out -> SnapshotCodec.writeFull(out, snapshot));
+    }
+
+    private static DataInputStream open(Path file) throws IOException {
+        return new DataInputStream(new BufferedInputStream(new GZIPInputStream(Files.newInputStream(file))));
+    }
+
+    /**
+     * Grava em arquivo temporário e renomeia, para não deixar versões incompletas.
+     */
+    private void write(Path file, Writer writer) throws IOException {
+        Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(temp))))) {
+                writer.write(out);
+            }
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private Path fullFile(int version) {
+        return directory.resolve(String.format("catalog-%06d.full.gz", version));
+    }
+
+    private Path deltaFile(int version) {
+        return directory.resolve(String.format("catalog-%06d.delta.gz", version));
+    }
+
+    @FunctionalInterface
+    private interface Writer {
+        void write(DataOutputStream out) throws IOException;
+    }
+}
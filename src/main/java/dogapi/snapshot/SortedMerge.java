@@ -0,0 +1,59 @@
+package dogapi.snapshot;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Operações de merge sobre listas ordenadas e sem duplicatas, em tempo linear.
+ */
+final class SortedMerge {
+
+    private SortedMerge() {
+        // Classe utilitária - construtor privado
+    }
+
+    /**
+     * Preenche {@code removed} com os itens só de {@code before} e {@code added} com os só de {@code after}.
+     */
+    static void diff(List<String> before, List<String> after, List<String> removed, List<String> added) {
+        int i = 0;
+        int j = 0;
+        while (i < before.size() && j < after.size()) {
+            int order = before.get(i).compareTo(after.get(j));
+            if (order == 0) {
+                i++;
+                j++;
+            } else if (order < 0) {
+                removed.add(before.get(i++));
+            } else {
+                added.add(after.get(j++));
+            }
+        }
+        removed.addAll(before.subList(i, before.size()));
+        added.addAll(after.subList(j, after.size()));
+    }
+
+    /**
+     * Retorna {@code (base - removed) + added}, mantendo a ordem.
+     */
+    static List<String> patch(List<String> base, List<String> removed, List<String> added) {
+        List<String> result = new ArrayList<>(base.size() - removed.size() + added.size());
+        int r = 0;
+        int a = 0;
+        for (String value : base) {
+            while (r < removed.size() && removed.get(r).compareTo(value) < 0) {
+                r++;
+            }
+            if (r < removed.size() && removed.get(r).equals(value)) {
+                r++;
+                continue;
+            }
+            while (a < added.size() && added.get(a).compareTo(value) < 0) {
+                result.add(added.get(a++));
+            }
+            result.add(value);
+        }
+        result.addAll(added.subList(a, added.size()));
+        return result;
+    }
+}
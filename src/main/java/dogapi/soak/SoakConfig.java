@@ -0,0 +1,33 @@
+package dogapi.soak;
+
+import java.time.Duration;
+
+/**
+ * Configuração do modo soak, lida de propriedades de sistema.
+ *
+ * <ul>
+ *   <li>{@code soak.duration} - duração total (ISO-8601, padrão {@code PT30M})</li>
+ *   <li>{@code soak.window} - intervalo de amostragem (padrão {@code PT1M})</li>
+ *   <li>{@code soak.concurrency} - threads chamando a API (padrão 1)</li>
+ *   <li>{@code soak.heapGrowthPercent} - crescimento máximo do heap pós-GC (padrão 20)</li>
+ *   <li>{@code soak.p99Drift} - razão máxima entre o p99 final e o inicial (padrão 1.5)</li>
+ *   <li>{@code soak.threadGrowth} - aumento máximo no número de threads (padrão 10)</li>
+ * </ul>
+ */
+public record SoakConfig(Duration duration,
+                         Duration window,
+                         int concurrency,
+                         double heapGrowthPercent,
+                         double p99Drift,
+                         int threadGrowth) {
+
+    public static SoakConfig fromSystemProperties() {
+        return new SoakConfig(
+                Duration.parse(System.getProperty("soak.duration", "PT30M")),
+                Duration.parse(System.getProperty("soak.window", "PT1M")),
+                Integer.getInteger("soak.concurrency", 1),
+                Double.parseDouble(System.getProperty("soak.heapGrowthPercent", "20")),
+                Double.parseDouble(System.getProperty("soak.p99Drift", "1.5")),
+                Integer.getInteger("soak.threadGrowth", 10));
+    }
+}
@@ -0,0 +1,232 @@
+package dogapi.soak;
+
+import dogapi.client.DogApiClient;
+import dogapi.model.BaseResponse;
+import dogapi.transport.PayloadStats;
+import dogapi.util.TestConstants;
+import io.restassured.response.Response;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Modo soak: executa o mix de endpoints do {@link DogApiClient} por um período longo e
+ * amostra heap, pausas de GC, taxa de alocação (via streaming de eventos JFR) e threads.
+ *
+ * Ao final compara a primeira janela estável com as últimas e falha (código de saída 1) se
+ * o heap pós-GC, o p99 de latência ou o número de threads cresceram além dos limites de
+ * {@link SoakConfig}. As métricas de cada janela vão para {@code target/soak-report.tsv}.
+ *
+ * Uso: {@code mvn -Psoak compile exec:exec -Dsoak.duration=PT4H}
+ */
+public class SoakRunner {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SoakRunner.class);
+
+    /** Janelas finais consideradas na comparação com a linha de base. */
+    private static final int TAIL_WINDOWS = 3;
+
+    private final SoakConfig config;
+    private final DogApiClient client = new DogApiClient();
+    private final List<Supplier<?>> endpointMix;
+    private final List<SoakWindow> windows = new ArrayList<>();
+    private final AtomicReference<SoakWindow> current = new AtomicReference<>(new SoakWindow(0));
+
+    public SoakRunner(SoakConfig config) {
+        this.config = config;
+        this.endpointMix = List.of(
+                client::getAllBreedsAsObject,
+                () -> client.getBreedImagesAsObject(TestConstants.VALID_BREED),
+                client::getRandomImageAsObject,
+                () -> client.getRandomImages(3),
+                () -> client.getSubBreedImages(TestConstants.VALID_BREED, TestConstants.VALID_SUB_BREED));
+    }
+
+    /**
+     * Executa o soak e retorna as violações encontradas (lista vazia quando aprovado).
+     */
+    public List<String> run() throws InterruptedException {
+        long deadline = System.nanoTime() + config.duration().toNanos();
+        ExecutorService workers = Executors.newFixedThreadPool(config.concurrency());
+
+        RecordingStream telemetry = startTelemetry();
+        try {
+            for (int i = 0; i < config.concurrency(); i++) {
+                int offset = i;
+                workers.execute(() -> loop(deadline, offset));
+            }
+            while (System.nanoTime() < deadline) {
+                long remaining = deadline - System.nanoTime();
+                TimeUnit.NANOSECONDS.sleep(Math.min(remaining, config.window().toNanos()));
+                rotateWindow();
+            }
+            workers.shutdown();
+            workers.awaitTermination(1, TimeUnit.MINUTES);
+        } finally {
+            workers.shutdownNow();
+            telemetry.close();
+        }
+        return evaluate(windows, config);
+    }
+
+    private void loop(long deadline, int offset) {
+        long iteration = offset;
+        while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+            Supplier<?> call = endpointMix.get((int) (iteration++ % endpointMix.size()));
+            long start = System.nanoTime();
+            boolean success;
+            try {
+                success = succeeded(call.get());
+            } catch (Exception e) {
+                // O REST Assured propaga IOException (ex.: UnknownHostException) sem declarar
+                success = false;
+            }
+            current.get().recordRequest(System.nanoTime() - start, success);
+        }
+    }
+
+    /**
+     * Respostas HTTP fora da faixa 2xx e modelos com status diferente de "success" contam como erro.
+     */
+    public static boolean succeeded(Object result) {
+        if (result instanceof Response response) {
+            return response.statusCode() >= 200 && response.statusCode() < 300;
+        }
+        if (result instanceof BaseResponse response) {
+            return response.isSuccess();
+        }
+        return true;
+    }
+
+    private RecordingStream startTelemetry() {
+        RecordingStream stream = new RecordingStream();
+        stream.enable("jdk.GarbageCollection");
+        stream.enable("jdk.GCHeapSummary");
+        stream.enable("jdk.ObjectAllocationSample").with("throttle", "150/s");
+        stream.onEvent("jdk.GarbageCollection", event -> current.get().recordGc(
+                event.getDuration("sumOfPauses").toNanos(), event.getDuration("longestPause").toNanos()));
+        stream.onEvent("jdk.GCHeapSummary", event -> {
+            if ("After GC".equals(event.getString("when"))) {
+                current.get().recordHeapAfterGc(event.getLong("heapUsed"));
+            }
+        });
+        stream.onEvent("jdk.ObjectAllocationSample", event -> current.get().recordAllocation(event.getLong("weight")));
+        stream.startAsync();
+        return stream;
+    }
+
+    private void rotateWindow() {
+        SoakWindow closed = current.getAndSet(new SoakWindow(windows.size() + 1));
+        closed.close(ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed(),
+                ManagementFactory.getThreadMXBean().getThreadCount());
+        windows.add(closed);
+
+        // A última janela pode ser mais curta que soak.window
+        double seconds = closed.getElapsedNanos() / 1e9;
+        LOG.info(String.format(Locale.ROOT,
+                "Janela %d: %d req (%d erros), p50 %.1f ms, p99 %.1f ms, heap vivo %.1f MB, "
+                        + "alocação %.1f MB/s, GC %d (pausa total %d ms, máx %d ms), threads %d",
+                closed.getIndex(), closed.getRequests(), closed.getErrors(),
+                closed.percentileMillis(50), closed.percentileMillis(99), mb(closed.getLiveHeapBytes()),
+                mb(closed.getAllocatedBytes()) / seconds, closed.getGcCount(),
+                closed.getGcPauseNanos() / 1_000_000, closed.getGcMaxPauseNanos() / 1_000_000,
+                closed.getThreadCount()));
+    }
+
+    /**
+     * Compara a linha de base (primeira janela após o aquecimento) com as últimas janelas.
+     */
+    public static List<String> evaluate(List<SoakWindow> windows, SoakConfig config) {
+        List<String> violations = new ArrayList<>();
+        if (windows.size() < 2) {
+            LOG.warn("Poucas janelas para avaliar tendência ({}); aumente soak.duration", windows.size());
+            return violations;
+        }
+        // A janela 0 inclui aquecimento de JIT e conexões
+        int baselinePosition = windows.size() > TAIL_WINDOWS ? 1 : 0;
+        SoakWindow baseline = windows.get(baselinePosition);
+        List<SoakWindow> tail = windows.subList(Math.max(baselinePosition + 1, windows.size() - TAIL_WINDOWS),
+                windows.size());
+
+        // Só janelas com coleta refletem o heap vivo; sem nenhuma, usa o heap ocupado
+        long baselineHeap = windows.stream().skip(baselinePosition)
+                .filter(SoakWindow::hasHeapAfterGc)
+                .mapToLong(SoakWindow::getLiveHeapBytes)
+                .findFirst().orElse(baseline.getLiveHeapBytes());
+        long tailHeap = tail.stream().filter(SoakWindow::hasHeapAfterGc)
+                .mapToLong(SoakWindow::getLiveHeapBytes)
+                .min().orElse(baselineHeap);
+        double heapGrowth = baselineHeap == 0 ? 0 : (tailHeap - baselineHeap) * 100.0 / baselineHeap;
+        if (heapGrowth > config.heapGrowthPercent()) {
+            violations.add(String.format(Locale.ROOT, "Heap pós-GC cresceu %.1f%% (%.1f MB -> %.1f MB), limite %.1f%%",
+                    heapGrowth, mb(baselineHeap), mb(tailHeap), config.heapGrowthPercent()));
+        }
+
+        double baselineP99 = baseline.percentileMillis(99);
+        double tailP99 = tail.stream().mapToDouble(window -> window.percentileMillis(99)).sorted()
+                .skip(tail.size() / 2).findFirst().orElse(baselineP99);
+        if (baselineP99 > 0 && tailP99 / baselineP99 > config.p99Drift()) {
+            violations.add(String.format(Locale.ROOT, "p99 subiu de %.1f ms para %.1f ms (%.2fx), limite %.2fx",
+                    baselineP99, tailP99, tailP99 / baselineP99, config.p99Drift()));
+        }
+
+        int threadGrowth = windows.get(windows.size() - 1).getThreadCount() - baseline.getThreadCount();
+        if (threadGrowth > config.threadGrowth()) {
+            violations.add(String.format("Número de threads aumentou em %d, limite %d",
+                    threadGrowth, config.threadGrowth()));
+        }
+        return violations;
+    }
+
+    private void writeReport(Path file) throws IOException {
+        StringBuilder report = new StringBuilder(
+                "window\trequests\terrors\tp50_ms\tp99_ms\tlive_heap_mb\tallocated_mb\tgc_count\tgc_pause_ms\tgc_max_pause_ms\tthreads\n");
+        for (SoakWindow window : windows) {
+            report.append(String.format(Locale.ROOT, "%d\t%d\t%d\t%.1f\t%.1f\t%.1f\t%.1f\t%d\t%d\t%d\t%d%n",
+                    window.getIndex(), window.getRequests(), window.getErrors(),
+                    window.percentileMillis(50), window.percentileMillis(99),
+                    mb(window.getLiveHeapBytes()), mb(window.getAllocatedBytes()), window.getGcCount(),
+                    window.getGcPauseNanos() / 1_000_000, window.getGcMaxPauseNanos() / 1_000_000,
+                    window.getThreadCount()));
+        }
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, report.toString());
+    }
+
+    private static double mb(long bytes) {
+        return bytes / (1024.0 * 1024.0);
+    }
+
+    public static void main(String[] args) throws Exception {
+        SoakConfig config = SoakConfig.fromSystemProperties();
+        LOG.info("Iniciando soak: duração {}, janela {}, {} thread(s)",
+                config.duration(), config.window(), config.concurrency());
+
+        SoakRunner runner = new SoakRunner(config);
+        List<String> violations = runner.run();
+        runner.writeReport(Paths.get(System.getProperty("soak.report", "target/soak-report.tsv")));
+        LOG.info("Chamadas ao cliente: {}", DogApiClient.coalescing());
+        LOG.info("Tráfego por endpoint: {}", PayloadStats.shared());
+
+        if (violations.isEmpty()) {
+            LOG.info("✅ Soak aprovado após {} janelas", runner.windows.size());
+            System.exit(0);
+        }
+        violations.forEach(violation -> LOG.error("❌ {}", violation));
+        System.exit(1);
+    }
+}
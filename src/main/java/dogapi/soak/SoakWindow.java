@@ -0,0 +1,127 @@
+package dogapi.soak;
+
+import java.util.Arrays;
+
+/**
+ * Métricas acumuladas em uma janela de amostragem do soak.
+ *
+ * Recebe dados das threads de carga (latências, erros) e da thread do JFR (GC, alocação),
+ * por isso todos os métodos de escrita são sincronizados.
+ */
+public class SoakWindow {
+
+    private final int index;
+    private final long startNanos = System.nanoTime();
+    private long elapsedNanos;
+    private long[] latenciesNanos = new long[1024];
+    private int requests;
+    private int errors;
+    private long allocatedBytes;
+    private long gcCount;
+    private long gcPauseNanos;
+    private long gcMaxPauseNanos;
+    private long heapAfterGcBytes = -1;
+    private long heapUsedBytes;
+    private int threadCount;
+
+    public SoakWindow(int index) {
+        this.index = index;
+    }
+
+    public synchronized void recordRequest(long nanos, boolean success) {
+        if (requests == latenciesNanos.length) {
+            latenciesNanos = Arrays.copyOf(latenciesNanos, requests * 2);
+        }
+        latenciesNanos[requests++] = nanos;
+        if (!success) {
+            errors++;
+        }
+    }
+
+    public synchronized void recordAllocation(long bytes) {
+        allocatedBytes += bytes;
+    }
+
+    public synchronized void recordGc(long sumOfPausesNanos, long longestPauseNanos) {
+        gcCount++;
+        gcPauseNanos += sumOfPausesNanos;
+        gcMaxPauseNanos = Math.max(gcMaxPauseNanos, longestPauseNanos);
+    }
+
+    /**
+     * Heap ocupado logo após uma coleta: mantém o menor valor da janela, que é o que
+     * melhor representa o conjunto de objetos vivos.
+     */
+    public synchronized void recordHeapAfterGc(long bytes) {
+        heapAfterGcBytes = heapAfterGcBytes < 0 ? bytes : Math.min(heapAfterGcBytes, bytes);
+    }
+
+    public synchronized void close(long heapUsedBytes, int threadCount) {
+        this.elapsedNanos = System.nanoTime() - startNanos;
+        this.heapUsedBytes = heapUsedBytes;
+        this.threadCount = threadCount;
+    }
+
+    /**
+     * Percentil das latências da janela em milissegundos (0 quando não houve requisições).
+     */
+    public synchronized double percentileMillis(double percentile) {
+        if (requests == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(latenciesNanos, requests);
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100.0 * requests) - 1;
+        return sorted[Math.max(0, rank)] / 1_000_000.0;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Duração real da janela, da criação ao fechamento (0 enquanto aberta).
+     */
+    public synchronized long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public synchronized int getRequests() {
+        return requests;
+    }
+
+    public synchronized int getErrors() {
+        return errors;
+    }
+
+    public synchronized long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    public synchronized long getGcCount() {
+        return gcCount;
+    }
+
+    public synchronized long getGcPauseNanos() {
+        return gcPauseNanos;
+    }
+
+    public synchronized long getGcMaxPauseNanos() {
+        return gcMaxPauseNanos;
+    }
+
+    /**
+     * Heap pós-GC da janela; sem coletas na janela, usa o heap ocupado no fechamento.
+     */
+    public synchronized long getLiveHeapBytes() {
+        return heapAfterGcBytes >= 0 ? heapAfterGcBytes : heapUsedBytes;
+    }
+
+    public synchronized boolean hasHeapAfterGc() {
+        return heapAfterGcBytes >= 0;
+    }
+
+    public synchronized int getThreadCount() {
+        return threadCount;
+    }
+}
@@ -0,0 +1,224 @@
+package dogapi.stream;
+
+import dogapi.client.DogApiClient;
+import dogapi.model.RandomImageResponse;
+import dogapi.model.RandomImagesResponse;
+import dogapi.util.TestConstants;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Fluxo contínuo de imagens aleatórias com backpressure.
+ *
+ * Cada assinatura busca imagens em lotes de GET /breeds/image/random/{count} conforme a demanda
+ * do assinante ({@link Flow.Subscription#request(long)}): só pede à API o que ainda não foi
+ * entregue nem está a caminho, e mantém no máximo {@code maxInFlightBatches} lotes em andamento.
+ * Assim o buffer de cada assinatura nunca passa de {@code batchSize * maxInFlightBatches} itens.
+ *
+ * Os sinais para o assinante são serializados por um laço de drenagem (contador de trabalho
+ * pendente), sem locks. O fluxo é infinito: termina com {@code cancel()} ou com
+ * {@code onError} na primeira falha de um lote, depois de entregar o que já havia chegado.
+ * Um {@code request(n)} com {@code n <= 0} (regra 3.9) encerra o fluxo imediatamente.
+ */
+public class RandomImagePublisher implements Flow.Publisher<RandomImageResponse> {
+
+    /** Maior {count} aceito pela Dog API. */
+    public static final int MAX_BATCH_SIZE = 50;
+
+    private static final ExecutorService DEFAULT_EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * Origem dos lotes: retorna até {@code count} URLs de imagens.
+     */
+    @FunctionalInterface
+    public interface BatchSource {
+        List<String> fetch(int count) throws Exception;
+    }
+
+    private final BatchSource source;
+    private final int batchSize;
+    private final int maxInFlightBatches;
+    private final Executor executor;
+
+    /**
+     * Publisher sobre o {@link DogApiClient}, com lotes executados em threads virtuais.
+     */
+    public RandomImagePublisher(DogApiClient client, int batchSize, int maxInFlightBatches) {
+        this(count -> fetchFromApi(client, count), batchSize, maxInFlightBatches, DEFAULT_EXECUTOR);
+    }
+
+    public RandomImagePublisher(BatchSource source, int batchSize, int maxInFlightBatches, Executor executor) {
+        if (batchSize < 1 || batchSize > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("batchSize deve estar entre 1 e " + MAX_BATCH_SIZE + ": " + batchSize);
+        }
+        if (maxInFlightBatches < 1) {
+            throw new IllegalArgumentException("maxInFlightBatches deve ser positivo: " + maxInFlightBatches);
+        }
+        this.source = Objects.requireNonNull(source);
+        this.batchSize = batchSize;
+        this.maxInFlightBatches = maxInFlightBatches;
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    private static List<String> fetchFromApi(DogApiClient client, int count) {
+        RandomImagesResponse response = client.getRandomImagesAsObject(count);
+        if (!response.isSuccess() || response.getMessage() == null) {
+            throw new IllegalStateException("Lote de imagens aleatórias falhou: " + response);
+        }
+        return response.getMessage();
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super RandomImageResponse> subscriber) {
+        BatchSubscription subscription = new BatchSubscription(Objects.requireNonNull(subscriber));
+        subscriber.onSubscribe(subscription);
+        subscription.drain();
+    }
+
+    private final class BatchSubscription implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super RandomImageResponse> subscriber;
+        private final Queue<RandomImageResponse> buffer = new ConcurrentLinkedQueue<>();
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger work = new AtomicInteger();
+        /** Acessados apenas dentro de drain(). */
+        private int inFlightBatches;
+        private long inFlightItems;
+        private long buffered;
+        private boolean done;
+        /** Escritos pelas threads dos lotes, lidos em drain(). */
+        private final AtomicInteger completedBatches = new AtomicInteger();
+        private final AtomicLong arrivedItems = new AtomicLong();
+        private final AtomicLong requestedByCompleted = new AtomicLong();
+        /** Primeira falha de um lote; as seguintes são descartadas. */
+        private final AtomicReference<Throwable> error = new AtomicReference<>();
+        /** Violação da regra 3.9, sinalizada sem esperar o buffer. */
+        private final AtomicReference<Throwable> violation = new AtomicReference<>();
+        private volatile boolean cancelled;
+
+        private BatchSubscription(Flow.Subscriber<? super RandomImageResponse> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                violation.compareAndSet(null,
+                        new IllegalArgumentException("§3.9: request deve ser positivo, recebido " + n));
+            } else {
+                demand.getAndAccumulate(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            drain();
+        }
+
+        private void fetch(int count) {
+            executor.execute(() -> {
+                try {
+                    if (!cancelled) {
+                        for (String url : source.fetch(count)) {
+                            // Conta antes de publicar: drain() nunca vê mais itens no buffer do que contabilizou
+                            arrivedItems.incrementAndGet();
+                            buffer.offer(new RandomImageResponse(url, TestConstants.SUCCESS_STATUS));
+                        }
+                    }
+                } catch (Throwable e) {
+                    error.compareAndSet(null, e);
+                } finally {
+                    requestedByCompleted.addAndGet(count);
+                    completedBatches.incrementAndGet();
+                    drain();
+                }
+            });
+        }
+
+        /**
+         * Laço de drenagem: só uma thread por vez entrega itens e decide novos lotes.
+         */
+        private void drain() {
+            if (work.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                if (!done) {
+                    step();
+                }
+                missed = work.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void step() {
+            if (cancelled) {
+                done = true;
+                buffer.clear();
+                return;
+            }
+            // Contabiliza lotes concluídos desde a última passagem
+            int completed = completedBatches.getAndSet(0);
+            inFlightBatches -= completed;
+            inFlightItems -= requestedByCompleted.getAndSet(0);
+            buffered += arrivedItems.getAndSet(0);
+
+            long emitted = 0;
+            long requested = demand.get();
+            while (emitted < requested && !cancelled) {
+                RandomImageResponse item = buffer.poll();
+                if (item == null) {
+                    break;
+                }
+                subscriber.onNext(item);
+                emitted++;
+            }
+            buffered -= emitted;
+            if (emitted > 0 && requested != Long.MAX_VALUE) {
+                demand.addAndGet(-emitted);
+            }
+            if (cancelled) {
+                done = true;
+                buffer.clear();
+                return;
+            }
+
+            // Violação da especificação encerra já; falha de lote espera o buffer esvaziar
+            Throwable failure = violation.get();
+            if (failure == null && buffered == 0) {
+                failure = error.get();
+            }
+            if (failure != null) {
+                done = true;
+                buffer.clear();
+                subscriber.onError(failure);
+                return;
+            }
+            if (error.get() != null) {
+                return;
+            }
+
+            // Pede só o que falta para cobrir a demanda, respeitando o limite de lotes em andamento
+            long missing = demand.get() - buffered - inFlightItems;
+            while (missing > 0 && inFlightBatches < maxInFlightBatches) {
+                int count = (int) Math.min(batchSize, missing);
+                inFlightBatches++;
+                inFlightItems += count;
+                missing -= count;
+                fetch(count);
+            }
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package dogapi.transport;
+
+import dogapi.jfr.HttpRequestEvent;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.reactor.IOReactorConfig;
+import org.apache.hc.core5.util.Timeout;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Transporte assíncrono sobre o Apache HttpClient 5: um reator NIO com poucas threads de I/O
+ * atende todas as conexões, sem uma thread bloqueada por requisição em andamento.
+ */
+public class AsyncHttpTransport implements DogApiTransport {
+
+    private final String baseUrl;
+    private final CloseableHttpAsyncClient client;
+
+    public AsyncHttpTransport(String baseUrl) {
+        this(baseUrl, 50, Duration.ofSeconds(10));
+    }
+
+    /**
+     * @param maxConnections conexões simultâneas por host
+     * @param timeout        timeout de conexão e de resposta
+     */
+    public AsyncHttpTransport(String baseUrl, int maxConnections, Duration timeout) {
+        this.baseUrl = baseUrl;
+        this.client = HttpAsyncClients.custom()
+                .setConnectionManager(PoolingAsyncClientConnectionManagerBuilder.create()
+                        .setMaxConnTotal(maxConnections)
+                        .setMaxConnPerRoute(maxConnections)
+                        .setDefaultConnectionConfig(ConnectionConfig.custom()
+                                .setConnectTimeout(Timeout.of(timeout))
+                                .build())
+                        .build())
+                .setIOReactorConfig(IOReactorConfig.custom()
+                        .setIoThreadCount(Math.max(1, Runtime.getRuntime().availableProcessors() / 2))
+                        .build())
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setResponseTimeout(Timeout.of(timeout))
+                        .build())
+                // Descompressão feita em toResponse, para medir o tamanho trafegado
+                .disableContentCompression()
+                .build();
+        client.start();
+    }
+
+    @Override
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    @Override
+    public String getName() {
+        return "httpclient5-async";
+    }
+
+    @Override
+    public TransportResponse get(String pathTemplate, Map<String, ?> pathParams) {
+        try {
+            return getAsync(pathTemplate, pathParams).join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException runtime ? runtime : e;
+        }
+    }
+
+    @Override
+    public CompletableFuture<TransportResponse> getAsync(String pathTemplate, Map<String, ?> pathParams) {
+        String url = baseUrl + PathTemplate.expand(pathTemplate, pathParams);
+        SimpleHttpRequest request = SimpleRequestBuilder.get(url)
+                .addHeader("Accept", "application/json")
+                .addHeader("Accept-Encoding", ContentCodec.ACCEPT_ENCODING)
+                .build();
+        CompletableFuture<TransportResponse> future = new CompletableFuture<>();
+        HttpRequestEvent event = HttpRequestEvent.start();
+        long start = System.nanoTime();
+        client.execute(request, new FutureCallback<>() {
+            @Override
+            public void completed(SimpleHttpResponse response) {
+                // O corpo já chegou inteiro: a troca inclui a leitura e o que resta é a descompressão
+                long decodeStart = System.nanoTime();
+                TransportResponse result;
+                try {
+                    result = toResponse(pathTemplate, response, start);
+                } catch (IOException e) {
+                    failed(e);
+                    return;
+                } catch (Throwable e) {
+                    // Sem isto o future nunca seria completado e join() ficaria bloqueado
+                    event.finish("GET", pathTemplate, pathParams, url, response.getCode(), 0,
+                            decodeStart - start, 0, e);
+                    future.completeExceptionally(e);
+                    return;
+                }
+                event.decodeNanos = System.nanoTime() - decodeStart;
+                event.finish("GET", pathTemplate, pathParams, url, result.statusCode(),
+                        result.body().length, decodeStart - start, 0, null);
+                future.complete(result);
+            }
+
+            @Override
+            public void failed(Exception e) {
+                event.finish("GET", pathTemplate, pathParams, url, 0, 0, System.nanoTime() - start, 0, e);
+                future.completeExceptionally(new UncheckedIOException("GET " + pathTemplate + " falhou",
+                        e instanceof IOException io ? io : new IOException(e)));
+            }
+
+            @Override
+            public void cancelled() {
+                event.finish("GET", pathTemplate, pathParams, url, 0, 0,
+                        System.nanoTime() - start, 0, new CancellationException());
+                future.cancel(false);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * O {@code SimpleHttpResponse} já chega com o corpo inteiro em memória; a descompressão é
+     * feita em fluxo sobre esse buffer.
+     */
+    private static TransportResponse toResponse(String pathTemplate, SimpleHttpResponse response, long start)
+            throws IOException {
+        Map<String, String> headers = new HashMap<>();
+        for (Header header : response.getHeaders()) {
+            headers.putIfAbsent(header.getName().toLowerCase(Locale.ROOT), header.getValue());
+        }
+        byte[] wire = response.getBodyBytes() != null ? response.getBodyBytes() : new byte[0];
+        ContentCodec.Decoded decoded = ContentCodec.decode(headers.get("content-encoding"), wire);
+        PayloadStats.shared().record(pathTemplate, decoded);
+        ContentCodec.decodedHeaders(headers, decoded);
+        return new TransportResponse(response.getCode(), headers.get("content-type"), headers, decoded.body(),
+                System.nanoTime() - start);
+    }
+
+    @Override
+    public void close() {
+        client.close(CloseMode.GRACEFUL);
+    }
+}
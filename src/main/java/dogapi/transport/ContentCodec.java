@@ -0,0 +1,136 @@
+package dogapi.transport;
+
+import org.brotli.dec.BrotliInputStream;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Locale;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Negociação e descompressão de {@code Content-Encoding} (gzip e brotli).
+ *
+ * A descompressão é feita em fluxo, lendo do corpo recebido à medida que o decodificador
+ * precisa. O tempo gasto esperando pela rede é descontado: {@link Decoded#decodeNanos()} mede
+ * apenas o trabalho do decodificador.
+ */
+public final class ContentCodec {
+
+    /**
+     * Valor enviado no header {@code Accept-Encoding}; brotli tem preferência quando o servidor
+     * oferece os dois.
+     */
+    public static final String ACCEPT_ENCODING = "br, gzip";
+
+    /**
+     * Corpo descomprimido e o que foi trafegado.
+     *
+     * @param encoding    valor do {@code Content-Encoding} recebido ({@code identity} se ausente)
+     * @param body        corpo descomprimido
+     * @param wireBytes   bytes recebidos
+     * @param decodeNanos tempo de descompressão, sem a espera pela rede
+     */
+    public record Decoded(String encoding, byte[] body, long wireBytes, long decodeNanos) {
+
+        public boolean isCompressed() {
+            return !"identity".equals(encoding);
+        }
+    }
+
+    private ContentCodec() {
+    }
+
+    /**
+     * Lê e descomprime o corpo conforme o {@code Content-Encoding}, fechando o stream.
+     */
+    public static Decoded decode(String contentEncoding, InputStream wire) throws IOException {
+        String encoding = contentEncoding == null || contentEncoding.isBlank()
+                ? "identity" : contentEncoding.trim().toLowerCase(Locale.ROOT);
+        MeteredInputStream metered = new MeteredInputStream(wire);
+        // O GZIPInputStream já lê o cabeçalho no construtor: a medição começa antes dele
+        long start = System.nanoTime();
+        try (InputStream decoder = decoder(encoding, metered)) {
+            byte[] body = decoder.readAllBytes();
+            long decodeNanos = decoder == metered ? 0 : System.nanoTime() - start - metered.readNanos;
+            return new Decoded(encoding, body, metered.bytes, Math.max(0, decodeNanos));
+        }
+    }
+
+    public static Decoded decode(String contentEncoding, byte[] wire) throws IOException {
+        return decode(contentEncoding, new ByteArrayInputStream(wire));
+    }
+
+    /**
+     * Remove dos headers (nomes em minúsculas) os que descrevem o corpo comprimido, como faz o
+     * HttpClient ao descomprimir.
+     */
+    static Map<String, String> decodedHeaders(Map<String, String> headers, Decoded decoded) {
+        if (decoded.isCompressed()) {
+            headers.remove("content-encoding");
+            headers.remove("content-length");
+        }
+        return headers;
+    }
+
+    /**
+     * Codificações em cadeia ({@code gzip, br}) são desfeitas da última para a primeira.
+     */
+    private static InputStream decoder(String encoding, InputStream in) throws IOException {
+        String[] codings = encoding.split("\\s*,\\s*");
+        InputStream decoded = in;
+        for (int i = codings.length - 1; i >= 0; i--) {
+            decoded = switch (codings[i]) {
+                case "identity" -> decoded;
+                case "gzip", "x-gzip" -> new GZIPInputStream(decoded, 8192);
+                case "br" -> new BrotliInputStream(decoded);
+                default -> throw new IOException("Content-Encoding não suportado: " + codings[i]);
+            };
+        }
+        return decoded;
+    }
+
+    /**
+     * Conta os bytes lidos e o tempo bloqueado em leituras do stream original.
+     */
+    private static final class MeteredInputStream extends FilterInputStream {
+
+        private long bytes;
+        private long readNanos;
+
+        private MeteredInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            long start = System.nanoTime();
+            int value = super.read();
+            readNanos += System.nanoTime() - start;
+            if (value >= 0) {
+                bytes++;
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            long start = System.nanoTime();
+            int read = super.read(buffer, offset, length);
+            readNanos += System.nanoTime() - start;
+            if (read > 0) {
+                bytes += read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            bytes += skipped;
+            return skipped;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package dogapi.transport;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Descomprime as respostas do REST Assured e registra os tamanhos no {@link PayloadStats}.
+ *
+ * Os decodificadores do próprio REST Assured ficam desligados ({@link RestAssuredTransport#config()}), para que
+ * o corpo chegue aqui como veio da rede e o tamanho trafegado possa ser medido. A resposta
+ * devolvida tem o corpo descomprimido e, como faz o HttpClient ao descomprimir, perde os headers
+ * {@code Content-Encoding} e {@code Content-Length}.
+ */
+class DecompressionFilter implements Filter {
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        Response response = ctx.next(requestSpec, responseSpec);
+
+        ContentCodec.Decoded decoded;
+        try {
+            decoded = ContentCodec.decode(response.getHeader("Content-Encoding"), response.asByteArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao descomprimir " + requestSpec.getURI(), e);
+        }
+        PayloadStats.shared().record(requestSpec.getUserDefinedPath(), decoded);
+        if (!decoded.isCompressed()) {
+            return response;
+        }
+        return new ResponseBuilder()
+                .clone(response)
+                .setHeaders(new Headers(response.getHeaders().asList().stream()
+                        .filter(header -> !isEncodingHeader(header))
+                        .toList()))
+                .setBody(decoded.body())
+                .build();
+    }
+
+    private static boolean isEncodingHeader(Header header) {
+        return header.getName().equalsIgnoreCase("Content-Encoding")
+                || header.getName().equalsIgnoreCase("Content-Length");
+    }
+}
@@ -0,0 +1,50 @@
+package dogapi.transport;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Transporte HTTP usado pelo {@code DogApiClient} para as chamadas convertidas em objeto.
+ *
+ * Implementações:
+ * <ul>
+ *   <li>{@link RestAssuredTransport} - padrão; mantém os anexos do Allure e o log do REST Assured;</li>
+ *   <li>{@link JdkHttpTransport} - {@code java.net.http.HttpClient} (HTTP/2, conexões reaproveitadas);</li>
+ *   <li>{@link AsyncHttpTransport} - Apache HttpClient 5 assíncrono, sobre NIO.</li>
+ * </ul>
+ *
+ * As implementações devem ser seguras para uso por várias threads.
+ */
+public interface DogApiTransport extends AutoCloseable {
+
+    /**
+     * URL base da API (ex.: {@code https://dog.ceo/api}).
+     */
+    String getBaseUrl();
+
+    /**
+     * Nome curto do transporte, usado em relatórios e no benchmark.
+     */
+    String getName();
+
+    /**
+     * Executa um GET.
+     *
+     * @param pathTemplate caminho com variáveis, ex.: {@code /breed/{breed}/images}
+     * @param pathParams   valores das variáveis do caminho
+     */
+    TransportResponse get(String pathTemplate, Map<String, ?> pathParams);
+
+    /**
+     * Versão assíncrona de {@link #get(String, Map)}. Por padrão executa a versão síncrona em
+     * uma thread virtual; transportes com I/O não bloqueante sobrescrevem.
+     */
+    default CompletableFuture<TransportResponse> getAsync(String pathTemplate, Map<String, ?> pathParams) {
+        return CompletableFuture.supplyAsync(() -> get(pathTemplate, pathParams), Thread::startVirtualThread);
+    }
+
+    @Override
+    default void close() {
+        // Sem recursos por padrão
+    }
+}
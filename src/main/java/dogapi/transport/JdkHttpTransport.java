@@ -0,0 +1,128 @@
+package dogapi.transport;
+
+import dogapi.jfr.HttpRequestEvent;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Transporte sobre {@link HttpClient} do JDK: HTTP/2 quando o servidor aceita, conexões
+ * reaproveitadas e {@code sendAsync} nativo para chamadas assíncronas. Negocia gzip/brotli e
+ * descomprime o corpo enquanto ele é recebido.
+ */
+public class JdkHttpTransport implements DogApiTransport {
+
+    private final String baseUrl;
+    private final HttpClient client;
+    private final Duration timeout;
+
+    public JdkHttpTransport(String baseUrl) {
+        this(baseUrl, Duration.ofSeconds(10));
+    }
+
+    public JdkHttpTransport(String baseUrl, Duration timeout) {
+        this.baseUrl = baseUrl;
+        this.timeout = timeout;
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(timeout)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .executor(Thread::startVirtualThread)
+                .build();
+    }
+
+    @Override
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    @Override
+    public String getName() {
+        return "jdk-httpclient";
+    }
+
+    @Override
+    public TransportResponse get(String pathTemplate, Map<String, ?> pathParams) {
+        HttpRequestEvent event = HttpRequestEvent.start();
+        long start = System.nanoTime();
+        HttpRequest request = request(pathTemplate, pathParams);
+        try {
+            return toResponse(pathTemplate, pathParams, client.send(request, HttpResponse.BodyHandlers.ofInputStream()),
+                    start, event);
+        } catch (IOException e) {
+            event.finish("GET", pathTemplate, pathParams, request.uri().toString(), 0, 0, System.nanoTime() - start, 0, e);
+            throw new UncheckedIOException("GET " + pathTemplate + " falhou", e);
+        } catch (InterruptedException e) {
+            event.finish("GET", pathTemplate, pathParams, request.uri().toString(), 0, 0, System.nanoTime() - start, 0, e);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("GET " + pathTemplate + " interrompido", e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<TransportResponse> getAsync(String pathTemplate, Map<String, ?> pathParams) {
+        HttpRequestEvent event = HttpRequestEvent.start();
+        long start = System.nanoTime();
+        HttpRequest request = request(pathTemplate, pathParams);
+        // O corpo é lido (e descomprimido) em uma thread virtual, à medida que chega
+        return client.sendAsync(request, HttpResponse.BodyHandlers.ofInputStream())
+                .thenApplyAsync(response -> {
+                    try {
+                        return toResponse(pathTemplate, pathParams, response, start, event);
+                    } catch (IOException e) {
+                        throw new CompletionException(e);
+                    }
+                }, Thread::startVirtualThread)
+                .exceptionally(e -> {
+                    Throwable cause = e instanceof CompletionException ? e.getCause() : e;
+                    event.finish("GET", pathTemplate, pathParams, request.uri().toString(), 0, 0,
+                            System.nanoTime() - start, 0, cause);
+                    throw new CompletionException(new UncheckedIOException("GET " + pathTemplate + " falhou",
+                            cause instanceof IOException io ? io : new IOException(cause)));
+                });
+    }
+
+    private HttpRequest request(String pathTemplate, Map<String, ?> pathParams) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + PathTemplate.expand(pathTemplate, pathParams)))
+                .timeout(timeout)
+                .header("Accept", "application/json")
+                .header("Accept-Encoding", ContentCodec.ACCEPT_ENCODING)
+                .GET()
+                .build();
+    }
+
+    /**
+     * Descomprime o corpo direto do stream da conexão, sem acumular a versão comprimida.
+     */
+    private static TransportResponse toResponse(String pathTemplate, Map<String, ?> pathParams,
+                                                HttpResponse<InputStream> response, long start, HttpRequestEvent event)
+            throws IOException {
+        long bodyReadStart = System.nanoTime();
+        Map<String, String> headers = new HashMap<>();
+        response.headers().map().forEach((name, values) -> headers.put(name.toLowerCase(Locale.ROOT), values.get(0)));
+        // Falhas na leitura do corpo são registradas no evento por quem chamou
+        ContentCodec.Decoded decoded = ContentCodec.decode(headers.get("content-encoding"), response.body());
+        long end = System.nanoTime();
+        event.finish("GET", pathTemplate, pathParams, response.uri().toString(), response.statusCode(),
+                decoded.body().length, bodyReadStart - start, end - bodyReadStart, null);
+        PayloadStats.shared().record(pathTemplate, decoded);
+        ContentCodec.decodedHeaders(headers, decoded);
+        return new TransportResponse(response.statusCode(), headers.get("content-type"), headers, decoded.body(),
+                end - start);
+    }
+
+    @Override
+    public void close() {
+        client.close();
+    }
+}
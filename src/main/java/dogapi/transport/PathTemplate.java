@@ -0,0 +1,40 @@
+package dogapi.transport;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Expansão de caminhos com variáveis para os transportes que não são o REST Assured.
+ */
+final class PathTemplate {
+
+    private static final Pattern VARIABLE = Pattern.compile("\\{([^}]+)}");
+
+    private PathTemplate() {
+        // Classe utilitária - construtor privado
+    }
+
+    /**
+     * Substitui as variáveis {@code {nome}} do caminho pelos valores codificados para URL.
+     */
+    static String expand(String pathTemplate, Map<String, ?> pathParams) {
+        if (pathParams.isEmpty()) {
+            return pathTemplate;
+        }
+        Matcher matcher = VARIABLE.matcher(pathTemplate);
+        StringBuilder path = new StringBuilder();
+        while (matcher.find()) {
+            Object value = pathParams.get(matcher.group(1));
+            if (value == null) {
+                throw new IllegalArgumentException("Parâmetro de caminho ausente: " + matcher.group(1));
+            }
+            String encoded = URLEncoder.encode(value.toString(), StandardCharsets.UTF_8).replace("+", "%20");
+            matcher.appendReplacement(path, Matcher.quoteReplacement(encoded));
+        }
+        matcher.appendTail(path);
+        return path.toString();
+    }
+}
@@ -0,0 +1,134 @@
+package dogapi.transport;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.Step;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Contabilidade de bytes trafegados por endpoint: comprimidos (na rede) contra descomprimidos,
+ * e o tempo gasto descomprimindo.
+ *
+ * Alimentada por todos os transportes; cada resposta recebida dentro de um teste também gera um
+ * step no Allure com o tamanho trafegado, o tamanho real e a taxa de compressão.
+ */
+public class PayloadStats {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PayloadStats.class);
+
+    private static final PayloadStats SHARED = new PayloadStats();
+
+    /**
+     * Totais de um endpoint.
+     *
+     * @param endpoint            caminho com variáveis, ex.: {@code /breed/{breed}/images}
+     * @param responses           respostas recebidas
+     * @param compressedResponses respostas que vieram comprimidas
+     * @param wireBytes           bytes recebidos
+     * @param bodyBytes           bytes depois da descompressão
+     * @param decodeNanos         tempo total de descompressão
+     */
+    public record EndpointPayload(String endpoint, long responses, long compressedResponses,
+                                  long wireBytes, long bodyBytes, long decodeNanos) {
+
+        /** Quantas vezes o corpo é maior que o trafegado. */
+        public double ratio() {
+            return wireBytes == 0 ? 1.0 : (double) bodyBytes / wireBytes;
+        }
+
+        public long savedBytes() {
+            return bodyBytes - wireBytes;
+        }
+    }
+
+    private static final class Counters {
+        private final LongAdder responses = new LongAdder();
+        private final LongAdder compressed = new LongAdder();
+        private final LongAdder wireBytes = new LongAdder();
+        private final LongAdder bodyBytes = new LongAdder();
+        private final LongAdder decodeNanos = new LongAdder();
+    }
+
+    private final ConcurrentMap<String, Counters> endpoints = new ConcurrentHashMap<>();
+
+    /**
+     * Instância usada pelos transportes.
+     */
+    public static PayloadStats shared() {
+        return SHARED;
+    }
+
+    /**
+     * Registra uma resposta e a descreve em um step do Allure. Fora de um teste (threads do
+     * HttpClient, benchmark, modo soak) não há caso de teste ativo e o resumo vai só para o log.
+     */
+    public void record(String endpoint, ContentCodec.Decoded decoded) {
+        Counters counters = endpoints.computeIfAbsent(endpoint, key -> new Counters());
+        counters.responses.increment();
+        if (decoded.isCompressed()) {
+            counters.compressed.increment();
+        }
+        counters.wireBytes.add(decoded.wireBytes());
+        counters.bodyBytes.add(decoded.body().length);
+        counters.decodeNanos.add(decoded.decodeNanos());
+        // O resumo só é formatado quando vai para o Allure ou para o log de debug
+        if (Allure.getLifecycle().getCurrentTestCaseOrStep().isPresent()) {
+            logPayload(endpoint, decoded.encoding(),
+                    describe(decoded.wireBytes(), decoded.body().length, decoded.decodeNanos()));
+        } else if (LOG.isDebugEnabled()) {
+            LOG.debug("Payload {} ({}): {}", endpoint, decoded.encoding(),
+                    describe(decoded.wireBytes(), decoded.body().length, decoded.decodeNanos()));
+        }
+    }
+
+    @Step("🗜️ Payload {endpoint} ({encoding}): {summary}")
+    private void logPayload(String endpoint, String encoding, String summary) {
+        // O step só registra o resumo no relatório
+    }
+
+    /**
+     * Totais do endpoint ({@code null} se nenhuma resposta foi registrada).
+     */
+    public EndpointPayload get(String endpoint) {
+        Counters counters = endpoints.get(endpoint);
+        return counters == null ? null : toPayload(endpoint, counters);
+    }
+
+    /**
+     * Totais de todos os endpoints, em ordem alfabética.
+     */
+    public List<EndpointPayload> snapshot() {
+        List<EndpointPayload> payloads = new ArrayList<>();
+        endpoints.forEach((endpoint, counters) -> payloads.add(toPayload(endpoint, counters)));
+        payloads.sort((a, b) -> a.endpoint().compareTo(b.endpoint()));
+        return payloads;
+    }
+
+    private static EndpointPayload toPayload(String endpoint, Counters counters) {
+        return new EndpointPayload(endpoint, counters.responses.sum(), counters.compressed.sum(),
+                counters.wireBytes.sum(), counters.bodyBytes.sum(), counters.decodeNanos.sum());
+    }
+
+    private static String describe(long wireBytes, long bodyBytes, long decodeNanos) {
+        return String.format(Locale.ROOT, "%d bytes na rede, %d descomprimidos (%.1fx), %.3f ms descomprimindo",
+                wireBytes, bodyBytes, wireBytes == 0 ? 1.0 : (double) bodyBytes / wireBytes, decodeNanos / 1e6);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder table = new StringBuilder();
+        for (EndpointPayload payload : snapshot()) {
+            table.append(String.format(Locale.ROOT, "%n  %-32s %6d respostas (%d comprimidas)  ",
+                            payload.endpoint(), payload.responses(), payload.compressedResponses()))
+                    .append(describe(payload.wireBytes(), payload.bodyBytes(), payload.decodeNanos()));
+        }
+        return table.isEmpty() ? "nenhuma resposta registrada" : table.toString();
+    }
+}
@@ -0,0 +1,121 @@
+package dogapi.transport;
+
+import dogapi.client.ConnectionPool;
+import dogapi.jfr.HttpRequestEvent;
+import dogapi.util.AllureRestAssuredFilter;
+import dogapi.util.JsonMapper;
+import io.restassured.RestAssured;
+import io.restassured.config.DecoderConfig;
+import io.restassured.config.ObjectMapperConfig;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.response.Response;
+import io.restassured.response.ValidatableResponse;
+import io.restassured.specification.RequestSpecification;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * Transporte padrão: REST Assured com o filtro do Allure e log das requisições.
+ *
+ * A especificação traz a própria configuração (pool de conexões, ObjectMapper compartilhado e
+ * decodificadores desligados, pois a descompressão fica com o {@link DecompressionFilter}), sem
+ * depender da configuração global do REST Assured.
+ *
+ * Sem relatório ({@code reporting = false}, usado pelo {@link TransportBenchmark}) não há log no
+ * console nem anexos do Allure: sobra o mesmo trabalho dos outros transportes (requisição,
+ * descompressão e o {@link HttpRequestEvent}), para que a comparação seja equivalente.
+ */
+public class RestAssuredTransport implements DogApiTransport {
+
+    private final String baseUrl;
+    private final boolean reporting;
+
+    public RestAssuredTransport(String baseUrl) {
+        this(baseUrl, true);
+    }
+
+    public RestAssuredTransport(String baseUrl, boolean reporting) {
+        this.baseUrl = baseUrl;
+        this.reporting = reporting;
+    }
+
+    /**
+     * Configuração das requisições à API, independente de {@code RestAssured.config}.
+     */
+    public static RestAssuredConfig config() {
+        return RestAssured.config()
+                .httpClient(ConnectionPool.httpClientConfig())
+                .decoderConfig(DecoderConfig.decoderConfig().noContentDecoders())
+                .objectMapperConfig(ObjectMapperConfig.objectMapperConfig()
+                        .jackson2ObjectMapperFactory((type, charset) -> JsonMapper.shared()));
+    }
+
+    /**
+     * Especificação base para requisições à API: negocia gzip/brotli e entrega o corpo
+     * descomprimido aos filtros anteriores (Allure) e às validações.
+     */
+    public static RequestSpecification specification(String baseUrl) {
+        return specification(baseUrl, true);
+    }
+
+    private static RequestSpecification specification(String baseUrl, boolean reporting) {
+        RequestSpecification specification = given()
+                .config(config())
+                .baseUri(baseUrl)
+                .contentType("application/json")
+                .header("Accept-Encoding", ContentCodec.ACCEPT_ENCODING);
+        if (!reporting) {
+            return specification.filter(new DecompressionFilter());
+        }
+        return specification
+                .filter(new AllureRestAssuredFilter())
+                .filter(new DecompressionFilter())
+                .log().all();
+    }
+
+    @Override
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    @Override
+    public String getName() {
+        return "rest-assured";
+    }
+
+    @Override
+    public TransportResponse get(String pathTemplate, Map<String, ?> pathParams) {
+        // Com relatório o evento JFR é emitido pelo AllureRestAssuredFilter
+        HttpRequestEvent event = reporting ? null : HttpRequestEvent.start();
+        long start = System.nanoTime();
+        Response response;
+        try {
+            ValidatableResponse validatable = specification(baseUrl, reporting)
+                    .pathParams(pathParams)
+                    .when()
+                    .get(pathTemplate)
+                    .then();
+            response = (reporting ? validatable.log().all() : validatable).extract().response();
+        } catch (RuntimeException e) {
+            if (event != null) {
+                event.finish("GET", pathTemplate, pathParams, baseUrl + PathTemplate.expand(pathTemplate, pathParams),
+                        0, 0, System.nanoTime() - start, 0, e);
+            }
+            throw e;
+        }
+        byte[] body = response.asByteArray();
+        long elapsed = System.nanoTime() - start;
+
+        Map<String, String> headers = new HashMap<>();
+        response.getHeaders().forEach(header -> headers.putIfAbsent(header.getName().toLowerCase(Locale.ROOT), header.getValue()));
+        if (event != null) {
+            event.finish("GET", pathTemplate, pathParams, baseUrl + PathTemplate.expand(pathTemplate, pathParams),
+                    response.getStatusCode(), body.length, elapsed, 0, null);
+        }
+        return new TransportResponse(response.getStatusCode(), response.getContentType(), headers, body, elapsed);
+    }
+}
@@ -0,0 +1,174 @@
+package dogapi.transport;
+
+import dogapi.client.DogApiClient;
+import dogapi.server.LocalDogApiServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Benchmark de throughput e latência dos transportes do {@link DogApiClient}.
+ *
+ * Por padrão sobe um {@link LocalDogApiServer} com um catálogo de exemplo, para medir o custo do
+ * cliente sem a variação da rede. Cada transporte faz um aquecimento e depois {@code requests}
+ * chamadas assíncronas, alternando lista de raças, imagens de uma raça e imagem aleatória, com
+ * no máximo {@code concurrency} chamadas em andamento.
+ *
+ * Argumentos:
+ * <ul>
+ *   <li>{@code --requests N} - chamadas medidas por transporte (padrão 2000)</li>
+ *   <li>{@code --concurrency N} - chamadas simultâneas (padrão 16)</li>
+ *   <li>{@code --warmup N} - chamadas de aquecimento por transporte (padrão 200)</li>
+ *   <li>{@code --transports a,b} - {@code rest-assured}, {@code jdk-httpclient}, {@code httpclient5-async} (padrão todos)</li>
+ *   <li>{@code --base-url URL} - mede contra outra API em vez do servidor local</li>
+ * </ul>
+ *
+ * O resultado vai para o log e para {@code target/transport-benchmark.tsv}.
+ *
+ * Uso: {@code mvn -q compile exec:java -Dexec.mainClass=dogapi.transport.TransportBenchmark}
+ */
+public class TransportBenchmark {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TransportBenchmark.class);
+
+    public static final List<String> TRANSPORTS = List.of("rest-assured", "jdk-httpclient", "httpclient5-async");
+
+    /**
+     * Resultado de um transporte.
+     */
+    public record Result(String transport, int requests, int failures, long elapsedNanos,
+                         long p50Nanos, long p99Nanos) {
+
+        public double throughput() {
+            return requests * 1_000_000_000.0 / elapsedNanos;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        int requests = 2000;
+        int concurrency = 16;
+        int warmup = 200;
+        List<String> transports = TRANSPORTS;
+        String baseUrl = null;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--requests" -> requests = Integer.parseInt(args[++i]);
+                case "--concurrency" -> concurrency = Integer.parseInt(args[++i]);
+                case "--warmup" -> warmup = Integer.parseInt(args[++i]);
+                case "--transports" -> transports = Arrays.stream(args[++i].split(",")).map(String::trim).toList();
+                case "--base-url" -> baseUrl = args[++i];
+                default -> throw new IllegalArgumentException("Argumento desconhecido: " + args[i]);
+            }
+        }
+
+        List<Result> results;
+        if (baseUrl != null) {
+            results = run(baseUrl, transports, requests, concurrency, warmup);
+        } else {
+            try (LocalDogApiServer server = LocalDogApiServer.withSampleCatalog(20, 20)) {
+                results = run(server.getBaseUrl(), transports, requests, concurrency, warmup);
+            }
+        }
+        write(results, Paths.get("target/transport-benchmark.tsv"));
+    }
+
+    /**
+     * Mede cada transporte, na ordem informada, contra a API em {@code baseUrl}.
+     */
+    public static List<Result> run(String baseUrl, List<String> transports, int requests, int concurrency,
+                                   int warmup) throws InterruptedException {
+        LOG.info("Benchmark de transportes em {}: {} chamadas, {} simultâneas, {} de aquecimento",
+                baseUrl, requests, concurrency, warmup);
+        List<Result> results = new ArrayList<>();
+        for (String name : transports) {
+            try (DogApiTransport transport = create(name, baseUrl)) {
+                measure(transport, warmup, concurrency, new long[warmup]);
+                long[] latencies = new long[requests];
+                long start = System.nanoTime();
+                int failures = measure(transport, requests, concurrency, latencies);
+                long elapsed = System.nanoTime() - start;
+                Arrays.sort(latencies);
+                Result result = new Result(name, requests, failures, elapsed,
+                        percentile(latencies, 0.50), percentile(latencies, 0.99));
+                LOG.info(String.format("%-18s %9.0f req/s   p50 %7.2f ms   p99 %7.2f ms   falhas %d",
+                        name, result.throughput(), result.p50Nanos() / 1e6, result.p99Nanos() / 1e6, failures));
+                results.add(result);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Cria um transporte pelo nome. O REST Assured vem sem log nem Allure e com o pool de
+     * conexões, como os demais: a comparação mede o transporte, não o relatório.
+     */
+    public static DogApiTransport create(String name, String baseUrl) {
+        return switch (name) {
+            case "rest-assured" -> new RestAssuredTransport(baseUrl, false);
+            case "jdk-httpclient" -> new JdkHttpTransport(baseUrl);
+            case "httpclient5-async" -> new AsyncHttpTransport(baseUrl);
+            default -> throw new IllegalArgumentException("Transporte desconhecido: " + name + " (use " + TRANSPORTS + ")");
+        };
+    }
+
+    private static int measure(DogApiTransport transport, int requests, int concurrency, long[] latencies)
+            throws InterruptedException {
+        Semaphore permits = new Semaphore(concurrency);
+        AtomicInteger failures = new AtomicInteger();
+        List<CompletableFuture<?>> calls = new ArrayList<>(requests);
+        for (int i = 0; i < requests; i++) {
+            permits.acquire();
+            int index = i;
+            long start = System.nanoTime();
+            calls.add(call(transport, i).whenComplete((response, error) -> {
+                latencies[index] = System.nanoTime() - start;
+                if (error != null || response.statusCode() != 200) {
+                    failures.incrementAndGet();
+                }
+                permits.release();
+            }));
+        }
+        CompletableFuture.allOf(calls.toArray(CompletableFuture[]::new)).exceptionally(error -> null).join();
+        return failures.get();
+    }
+
+    private static CompletableFuture<TransportResponse> call(DogApiTransport transport, int i) {
+        return switch (i % 3) {
+            case 0 -> transport.getAsync(DogApiClient.BREEDS_LIST, Map.of());
+            case 1 -> transport.getAsync(DogApiClient.BREED_IMAGES, Map.of("breed", "retriever"));
+            default -> transport.getAsync(DogApiClient.RANDOM_IMAGE, Map.of());
+        };
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(quantile * sorted.length) - 1)];
+    }
+
+    private static void write(List<Result> results, Path file) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add("transport\trequests\tfailures\treq_per_s\tp50_ms\tp99_ms");
+        for (Result result : results) {
+            lines.add(String.format(Locale.ROOT, "%s\t%d\t%d\t%.1f\t%.3f\t%.3f",
+                    result.transport(), result.requests(), result.failures(), result.throughput(),
+                    result.p50Nanos() / 1e6, result.p99Nanos() / 1e6));
+        }
+        Files.createDirectories(file.getParent());
+        Files.write(file, lines);
+        LOG.info("Resultado gravado em {}", file);
+    }
+}
@@ -0,0 +1,30 @@
+package dogapi.transport;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Resposta HTTP independente do transporte.
+ *
+ * @param statusCode   código de status
+ * @param contentType  valor do header Content-Type ({@code null} se ausente)
+ * @param headers      headers da resposta (nomes em minúsculas, primeiro valor; sem
+ *                     {@code content-encoding} e {@code content-length} se o corpo veio comprimido)
+ * @param body         corpo já descomprimido
+ * @param elapsedNanos tempo da troca (envio da requisição até o corpo lido)
+ */
+public record TransportResponse(int statusCode,
+                                String contentType,
+                                Map<String, String> headers,
+                                byte[] body,
+                                long elapsedNanos) {
+
+    public String header(String name) {
+        return headers.get(name.toLowerCase(Locale.ROOT));
+    }
+
+    public String bodyAsString() {
+        return new String(body, StandardCharsets.UTF_8);
+    }
+}
@@ -1,5 +1,6 @@
 package dogapi.util;
 
+import dogapi.jfr.HttpRequestEvent;
 import io.qameta.allure.Attachment;
 import io.qameta.allure.Step;
 import io.restassured.filter.Filter;
@@ -8,6 +9,8 @@ import io.restassured.response.Response;
 import io.restassured.specification.FilterableRequestSpecification;
 import io.restassured.specification.FilterableResponseSpecification;
 
+import java.nio.charset.StandardCharsets;
+
 /**
  * Filtro para capturar requests e responses do REST Assured no Allure
  */
@@ -18,25 +21,54 @@ public class AllureRestAssuredFilter implements Filter {
             FilterableResponseSpecification responseSpec,
             FilterContext ctx) {
 
+        StartupTimer.markFirstRequest();
+        HttpRequestEvent event = HttpRequestEvent.start();
+
         // Captura dados do request
         String requestUrl = requestSpec.getURI();
         String requestMethod = requestSpec.getMethod();
         String requestHeaders = requestSpec.getHeaders().toString();
         String requestBody = requestSpec.getBody() != null ? requestSpec.getBody().toString() : "No body";
 
-        // Executa a requisição
-        Response response = ctx.next(requestSpec, responseSpec);
+        int statusCode = 0;
+        long responseBytes = 0;
+        long exchangeNanos = 0;
+        long bodyReadNanos = 0;
+        Throwable error = null;
+        try {
+            // Executa a requisição
+            long exchangeStart = System.nanoTime();
+            Response response = ctx.next(requestSpec, responseSpec);
+            long bodyReadStart = System.nanoTime();
 
-        // Captura dados do response
-        int statusCode = response.getStatusCode();
-        String responseHeaders = response.getHeaders().toString();
-        String responseBody = response.getBody().asString();
+            // Captura dados do response
+            statusCode = response.getStatusCode();
+            String responseHeaders = response.getHeaders().toString();
+            String responseBody = response.getBody().asString();
+            long reportStart = System.nanoTime();
 
-        // Anexa no Allure
-        logRequest(requestMethod, requestUrl, requestHeaders, requestBody);
-        logResponse(statusCode, responseHeaders, responseBody);
+            // Anexa no Allure
+            logRequest(requestMethod, requestUrl, requestHeaders, requestBody);
+            logResponse(statusCode, responseHeaders, responseBody);
 
-        return response;
+            if (event.shouldCommit()) {
+                responseBytes = response.asByteArray().length;
+                exchangeNanos = bodyReadStart - exchangeStart;
+                bodyReadNanos = reportStart - bodyReadStart;
+                event.reportNanos = System.nanoTime() - reportStart;
+            }
+            return response;
+        } catch (Throwable e) {
+            // Inclui IOException propagada sem declaração pelo REST Assured
+            error = e;
+            throw e;
+        } finally {
+            if (event.shouldCommit()) {
+                event.requestBytes = requestSpec.getBody() != null ? requestBody.getBytes(StandardCharsets.UTF_8).length : 0;
+                event.finish(requestMethod, requestSpec.getUserDefinedPath(), requestSpec.getNamedPathParams(),
+                        requestUrl, statusCode, responseBytes, exchangeNanos, bodyReadNanos, error);
+            }
+        }
     }
 
     @Step("📤 Request: {method} {url}")
@@ -0,0 +1,23 @@
+package dogapi.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * ObjectMapper compartilhado por todo o projeto.
+ *
+ * O REST Assured cria um ObjectMapper novo a cada {@code response.as(...)} por padrão, o que
+ * descarta o cache de deserializadores do Jackson. Com uma instância única, a introspecção
+ * dos modelos acontece uma vez só (ver {@code WarmUpListener}).
+ */
+public final class JsonMapper {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().findAndRegisterModules();
+
+    private JsonMapper() {
+        // Classe utilitária - construtor privado
+    }
+
+    public static ObjectMapper shared() {
+        return MAPPER;
+    }
+}
@@ -0,0 +1,75 @@
+package dogapi.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Mede o tempo entre o início da JVM e a primeira requisição HTTP de um teste.
+ *
+ * Usado para comparar o custo de inicialização (JVM, weaving do AspectJ e carga das
+ * classes do REST Assured/Groovy) entre o perfil padrão e o perfil {@code fast-start}.
+ * O aquecimento da suíte roda antes do primeiro teste e é informado à parte
+ * ({@link #recordWarmUp(long)}), para que o custo de inicialização não o inclua.
+ */
+public final class StartupTimer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(StartupTimer.class);
+
+    private static final AtomicBoolean FIRST_REQUEST_SEEN = new AtomicBoolean();
+
+    private static volatile long firstRequestMillis = -1;
+
+    private static volatile long warmUpMillis;
+
+    private StartupTimer() {
+        // Classe utilitária - construtor privado
+    }
+
+    /**
+     * Registra a duração do aquecimento executado antes do primeiro teste.
+     */
+    public static void recordWarmUp(long millis) {
+        warmUpMillis = millis;
+    }
+
+    /**
+     * Registra o instante da primeira requisição; chamadas seguintes são ignoradas.
+     */
+    public static void markFirstRequest() {
+        if (FIRST_REQUEST_SEEN.get() || !FIRST_REQUEST_SEEN.compareAndSet(false, true)) {
+            return;
+        }
+        firstRequestMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+        if (warmUpMillis > 0) {
+            LOG.info("⏱️ Primeira requisição enviada {} ms após o início da JVM ({} ms sem o aquecimento de {} ms)",
+                    firstRequestMillis, getStartupMillis(), warmUpMillis);
+        } else {
+            LOG.info("⏱️ Primeira requisição enviada {} ms após o início da JVM", firstRequestMillis);
+        }
+    }
+
+    /**
+     * Milissegundos entre o início da JVM e a primeira requisição, ou -1 se ainda não houve requisição.
+     */
+    public static long getFirstRequestMillis() {
+        return firstRequestMillis;
+    }
+
+    /**
+     * Custo de inicialização até a primeira requisição, descontado o aquecimento; -1 se ainda
+     * não houve requisição.
+     */
+    public static long getStartupMillis() {
+        return firstRequestMillis < 0 ? -1 : firstRequestMillis - warmUpMillis;
+    }
+
+    /**
+     * Duração do aquecimento (0 se não houve).
+     */
+    public static long getWarmUpMillis() {
+        return warmUpMillis;
+    }
+}
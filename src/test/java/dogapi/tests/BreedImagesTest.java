@@ -3,6 +3,8 @@ package dogapi.tests;
 import dogapi.client.DogApiClient;
 import dogapi.model.BreedImagesResponse;
 import dogapi.model.ErrorResponse;
+import dogapi.schema.SchemaValidator;
+import dogapi.schema.ValidationReport;
 import dogapi.util.TestConstants;
 import io.qameta.allure.*;
 import io.restassured.response.Response;
@@ -51,6 +53,11 @@ public class BreedImagesTest {
         assertNotNull(imagesResponse.getMessage(), "Message não deve ser nulo");
         assertFalse(imagesResponse.getMessage().isEmpty(), 
                 "Lista de imagens não deve estar vazia");
+        
+        // Validação do contrato (schema BreedImagesResponse)
+        ValidationReport schemaReport = SchemaValidator.validate(BreedImagesResponse.class,
+                "/breed/" + TestConstants.VALID_BREED + "/images", response.asString());
+        assertTrue(schemaReport.isValid(), schemaReport.toString());
     }
     
     @Test(description = "Deve validar URLs das imagens")
@@ -94,6 +101,11 @@ public class BreedImagesTest {
         assertEquals(errorResponse.getStatus(), TestConstants.ERROR_STATUS, 
                 "Status deve ser 'error'");
         assertNotNull(errorResponse.getMessage(), "Mensagem de erro não deve ser nula");
+        
+        // Validação do contrato (schema ErrorResponse)
+        ValidationReport schemaReport = SchemaValidator.validate(ErrorResponse.class,
+                "/breed/" + TestConstants.INVALID_BREED + "/images", response.asString());
+        assertTrue(schemaReport.isValid(), schemaReport.toString());
     }
     
     @Test(description = "Deve validar diferentes raças conhecidas")
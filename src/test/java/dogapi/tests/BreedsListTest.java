@@ -1,7 +1,10 @@
 package dogapi.tests;
 
 import dogapi.client.DogApiClient;
+import dogapi.execution.SharedFixture;
 import dogapi.model.BreedsListResponse;
+import dogapi.schema.SchemaValidator;
+import dogapi.schema.ValidationReport;
 import dogapi.util.TestConstants;
 import io.qameta.allure.*;
 import io.restassured.response.Response;
@@ -18,6 +21,7 @@ import static org.testng.Assert.*;
  */
 @Epic("Dog API Tests")
 @Feature("Breeds List")
+@SharedFixture("breeds-list")
 public class BreedsListTest {
     
     private DogApiClient dogApiClient;
@@ -48,6 +52,11 @@ public class BreedsListTest {
         assertNotNull(breedsResponse.getMessage(), "Message não deve ser nulo");
         assertFalse(breedsResponse.getMessage().isEmpty(), 
                 "Lista de raças não deve estar vazia");
+        
+        // Validação do contrato (schema BreedsListResponse)
+        ValidationReport schemaReport = SchemaValidator.validate(BreedsListResponse.class,
+                "/breeds/list/all", response.asString());
+        assertTrue(schemaReport.isValid(), schemaReport.toString());
     }
     
     @Test(description = "Deve validar estrutura do JSON de resposta")
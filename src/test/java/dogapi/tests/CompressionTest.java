@@ -0,0 +1,134 @@
+package dogapi.tests;
+
+import dogapi.client.DogApiClient;
+import dogapi.server.LocalDogApiServer;
+import dogapi.transport.ContentCodec;
+import dogapi.transport.DogApiTransport;
+import dogapi.transport.PayloadStats;
+import dogapi.transport.RestAssuredTransport;
+import dogapi.transport.TransportBenchmark;
+import dogapi.transport.TransportResponse;
+import io.qameta.allure.*;
+import io.restassured.response.Response;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import static org.testng.Assert.*;
+
+/**
+ * Testes da negociação de compressão e da contabilidade de bytes por endpoint (sem acesso à rede)
+ */
+@Epic("Dog API Tests")
+@Feature("Compression")
+public class CompressionTest {
+
+    private static final String JSON = "{\"message\":\"https://images.dog.ceo/breeds/pug/n02110958_1.jpg\",\"status\":\"success\"}";
+
+    /** JSON acima em brotli (meta-bloco sem compressão), gerado fora do teste. */
+    private static final String JSON_BROTLI =
+            "EAUQeyJtZXNzYWdlIjoiaHR0cHM6Ly9pbWFnZXMuZG9nLmNlby9icmVlZHMvcHVnL24wMjExMDk1OF8xLmpwZyIsInN0YXR1cyI6InN1Y2Nlc3MifQM=";
+
+    private LocalDogApiServer server;
+
+    @BeforeClass
+    public void setUp() throws Exception {
+        server = LocalDogApiServer.withSampleCatalog(50, 200);
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void tearDown() {
+        server.close();
+        // O construtor do cliente altera a configuração global do REST Assured
+        new DogApiClient();
+    }
+
+    @DataProvider(name = "transports")
+    public Object[][] transports() {
+        return TransportBenchmark.TRANSPORTS.stream().map(name -> new Object[]{name}).toArray(Object[][]::new);
+    }
+
+    @Test(dataProvider = "transports", description = "Deve negociar gzip e contabilizar os bytes por endpoint")
+    @Story("Compressão")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("A resposta vem comprimida, é entregue descomprimida e o endpoint registra bytes trafegados e descomprimidos")
+    public void testGzipNegotiationAndAccounting(String name) {
+        String endpoint = "/compression/" + name;
+        byte[] catalog = new DogApiClient(new RestAssuredTransport(server.getBaseUrl())).getAllBreeds().asByteArray();
+        server.route(endpoint, catalog);
+
+        try (DogApiTransport transport = TransportBenchmark.create(name, server.getBaseUrl())) {
+            for (int i = 0; i < 3; i++) {
+                TransportResponse response = transport.get(endpoint, Map.of());
+                assertNull(response.header("Content-Encoding"), "Corpo entregue não está mais comprimido");
+                assertEquals(response.body(), catalog, "Corpo deve chegar descomprimido e íntegro");
+            }
+        }
+
+        PayloadStats.EndpointPayload payload = PayloadStats.shared().get(endpoint);
+        assertNotNull(payload, "Endpoint deve ser contabilizado");
+        assertEquals(payload.responses(), 3);
+        assertEquals(payload.compressedResponses(), 3, "Servidor deve responder com gzip");
+        assertEquals(payload.bodyBytes(), 3L * catalog.length);
+        assertTrue(payload.ratio() > 3, "JSON do catálogo deve comprimir bem: " + payload);
+        assertTrue(payload.decodeNanos() > 0, "Tempo de descompressão deve ser medido");
+    }
+
+    @Test(description = "Deve entregar respostas descomprimidas às validações do REST Assured")
+    @Story("Compressão")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Pelo DogApiClient, a Response não tem mais Content-Encoding e o JSON é lido normalmente")
+    public void testRestAssuredResponseIsDecoded() {
+        PayloadStats.EndpointPayload before = PayloadStats.shared().get(DogApiClient.BREED_IMAGES);
+        DogApiClient client = new DogApiClient(new RestAssuredTransport(server.getBaseUrl()));
+
+        Response response = client.getBreedImages("retriever");
+
+        assertEquals(response.getStatusCode(), 200);
+        assertNull(response.getHeader("Content-Encoding"), "Content-Encoding deve ser removido após descomprimir");
+        assertEquals(response.jsonPath().getList("message").size(), 200);
+        PayloadStats.EndpointPayload after = PayloadStats.shared().get(DogApiClient.BREED_IMAGES);
+        long compressedBefore = before == null ? 0 : before.compressedResponses();
+        assertEquals(after.compressedResponses() - compressedBefore, 1, "Resposta comprimida deve ser contabilizada");
+    }
+
+    @Test(description = "Deve descomprimir gzip, brotli e corpo sem compressão")
+    @Story("Decodificação")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Decodifica o mesmo JSON nas três formas e confere bytes trafegados e codificação reportada")
+    public void testDecodesSupportedEncodings() throws Exception {
+        byte[] json = JSON.getBytes(StandardCharsets.UTF_8);
+        byte[] gzip = gzip(json);
+        byte[] brotli = Base64.getDecoder().decode(JSON_BROTLI);
+
+        ContentCodec.Decoded fromGzip = ContentCodec.decode("gzip", gzip);
+        ContentCodec.Decoded fromBrotli = ContentCodec.decode("br", brotli);
+        ContentCodec.Decoded identity = ContentCodec.decode(null, json);
+
+        assertEquals(fromGzip.body(), json);
+        assertEquals(fromGzip.wireBytes(), gzip.length);
+        assertEquals(fromBrotli.body(), json);
+        assertEquals(fromBrotli.wireBytes(), brotli.length);
+        assertTrue(fromBrotli.isCompressed());
+        assertEquals(identity.encoding(), "identity");
+        assertFalse(identity.isCompressed());
+        assertEquals(identity.wireBytes(), json.length);
+        assertThrows(IOException.class, () -> ContentCodec.decode("compress", json));
+    }
+
+    private static byte[] gzip(byte[] data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,221 @@
+package dogapi.tests;
+
+import dogapi.execution.CostScheduler;
+import dogapi.execution.CostScheduler.Schedule;
+import dogapi.execution.CostScheduler.Task;
+import dogapi.tests.ScheduleSamples.SampleA;
+import dogapi.tests.ScheduleSamples.SampleB;
+import dogapi.tests.ScheduleSamples.SampleFactory;
+import io.qameta.allure.*;
+import org.testng.IMethodInstance;
+import org.testng.ITestContext;
+import org.testng.TestNG;
+import org.testng.annotations.Test;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.testng.Assert.*;
+
+/**
+ * Testes para o escalonador da suíte por custo histórico
+ */
+@Epic("Dog API Tests")
+@Feature("Test Scheduling")
+public class CostSchedulerTest {
+
+    @Test(description = "Deve executar primeiro os métodos mais demorados")
+    @Story("Escalonamento por custo")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Com um worker, a ordem segue o custo decrescente e o makespan é a soma dos pesos")
+    public void testLongestFirst() {
+        Schedule schedule = CostScheduler.plan(List.of(task("A", null, 1), task("B", null, 5), task("C", null, 3)), 1);
+
+        assertEquals(ids(schedule), List.of("B", "C", "A"));
+        assertEquals(schedule.predictedMakespanSeconds(), 9.0, 1e-9);
+        assertEquals(schedule.totalSeconds(), 9.0, 1e-9);
+    }
+
+    @Test(description = "Deve agrupar métodos que compartilham o mesmo fixture")
+    @Story("Escalonamento por custo")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Métodos com o mesmo @SharedFixture ficam contíguos e o bloco é ordenado pelo custo somado")
+    public void testGroupsSharedFixtures() {
+        Schedule schedule = CostScheduler.plan(List.of(
+                task("x1", "breeds-list", 2), task("y", null, 4), task("x2", "breeds-list", 3), task("z", null, 1)), 1);
+
+        assertEquals(ids(schedule), List.of("x2", "x1", "y", "z"),
+                "Bloco breeds-list (5s) deve vir antes de y (4s), com seus métodos juntos");
+    }
+
+    @Test(description = "Deve prever o makespan da distribuição entre workers")
+    @Story("Escalonamento por custo")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("O makespan previsto segue a atribuição LPT e respeita o limite de 4/3 do ideal")
+    public void testPredictsMakespanAcrossWorkers() {
+        List<Task> tasks = List.of(task("A", null, 5), task("B", null, 4), task("C", null, 3),
+                task("D", null, 3), task("E", null, 3));
+
+        Schedule schedule = CostScheduler.plan(tasks, 2);
+
+        assertEquals(schedule.predictedMakespanSeconds(), 10.0, 1e-9);
+        assertTrue(schedule.predictedMakespanSeconds() <= schedule.totalSeconds() / 2 * 4 / 3,
+                "Makespan LPT deve respeitar o limite de 4/3 do ideal");
+        assertThrows(IllegalArgumentException.class, () -> CostScheduler.plan(tasks, 0));
+    }
+
+    @Test(description = "Deve reordenar a suíte inteira numa execução real do TestNG")
+    @Story("Escalonamento por custo")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Com o histórico do Surefire, os métodos de classes diferentes se intercalam por custo e o método sem histórico usa a mediana")
+    public void testInterceptorOrdersSuiteByHistory() throws IOException {
+        Path history = historyWith(SAMPLE_HISTORY);
+        try {
+            RecordingScheduler scheduler = run(history, SampleA.class, SampleB.class);
+
+            // Mediana 4s: "unknown" vem depois de "medium" (desempate pelo nome) e antes de "fast" (2s)
+            assertEquals(ScheduleSamples.EXECUTED, List.of("A#slow", "B#medium", "B#unknown", "A#fast"),
+                    "Ordem deve seguir o custo, ignorando a ordem das classes no XML");
+            assertEquals(scheduler.output.size(), 4);
+            assertTrue(Files.exists(history.resolve("TEST-" + SampleB.class.getName() + ".xml")),
+                    "Tempos medidos devem ser gravados no histórico");
+        } finally {
+            delete(history);
+        }
+    }
+
+    @Test(description = "Deve manter a ordem do XML quando não há histórico")
+    @Story("Escalonamento por custo")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Sem histórico (ex.: após mvn clean) o preserve-order não é desligado e o interceptor não reordena nada")
+    public void testKeepsXmlOrderWithoutHistory() throws IOException {
+        Path history = Files.createTempDirectory("schedule-history");
+        try {
+            RecordingScheduler scheduler = run(history, SampleB.class, SampleA.class);
+
+            assertEquals(ScheduleSamples.EXECUTED, List.of("B#medium", "B#unknown", "A#fast", "A#slow"),
+                    "Classes devem seguir a ordem do XML");
+            assertSame(scheduler.output, scheduler.input, "Lista original deve ser devolvida");
+            assertTrue(Files.exists(history.resolve("TEST-" + SampleA.class.getName() + ".xml")),
+                    "A primeira execução deve gravar o histórico da próxima");
+        } finally {
+            delete(history);
+        }
+    }
+
+    @Test(description = "Deve manter a ordem original quando o mesmo método aparece em mais de uma instância")
+    @Story("Escalonamento por custo")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Com @Factory, o id classe#método se repete e o interceptor devolve a lista recebida sem alterá-la")
+    public void testInterceptorKeepsOrderForDuplicateIds() throws IOException {
+        Path history = historyWith(SAMPLE_HISTORY);
+        try {
+            RecordingScheduler scheduler = run(history, SampleFactory.class);
+
+            assertSame(scheduler.output, scheduler.input, "Lista original deve ser devolvida");
+            assertEquals(ScheduleSamples.EXECUTED.size(), 4, "Todos os métodos das duas instâncias devem executar");
+        } finally {
+            delete(history);
+        }
+    }
+
+    private static final String SAMPLE_HISTORY = """
+            <testsuite name="samples">
+              <testcase classname="%1$s" name="fast" time="2"/>
+              <testcase classname="%1$s" name="slow" time="5"/>
+              <testcase classname="%2$s" name="medium" time="4"/>
+            </testsuite>
+            """.formatted(SampleA.class.getName(), SampleB.class.getName());
+
+    private static Path historyWith(String report) throws IOException {
+        Path history = Files.createTempDirectory("schedule-history");
+        Files.writeString(history.resolve("TEST-samples.xml"), report);
+        return history;
+    }
+
+    private static void delete(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    /**
+     * Executa as classes numa suíte própria do TestNG, lendo e gravando o histórico no diretório informado
+     */
+    private static RecordingScheduler run(Path history, Class<?>... classes) {
+        ScheduleSamples.EXECUTED.clear();
+        Map<String, String> properties = Map.of(
+                "dogapi.schedule.history", history.toString(),
+                "dogapi.schedule.store", history.toString());
+        Map<String, String> previous = new HashMap<>();
+        properties.forEach((key, value) -> {
+            previous.put(key, System.getProperty(key));
+            System.setProperty(key, value);
+        });
+        try {
+            XmlSuite suite = new XmlSuite();
+            suite.setName("schedule-samples");
+            XmlTest test = new XmlTest(suite);
+            test.setName("samples");
+            List<XmlClass> xmlClasses = new ArrayList<>();
+            for (Class<?> type : classes) {
+                xmlClasses.add(new XmlClass(type));
+            }
+            test.setXmlClasses(xmlClasses);
+
+            RecordingScheduler scheduler = new RecordingScheduler();
+            TestNG testng = new TestNG();
+            testng.setUseDefaultListeners(false);
+            testng.setListenersToSkipFromBeingWiredInViaServiceLoaders("io.qameta.allure.testng.AllureTestNg");
+            testng.setXmlSuites(List.of(suite));
+            testng.addListener(scheduler);
+            testng.run();
+            assertFalse(testng.hasFailure(), "Suíte de exemplo não deve falhar");
+            return scheduler;
+        } finally {
+            previous.forEach((key, value) -> {
+                if (value != null) {
+                    System.setProperty(key, value);
+                } else {
+                    System.clearProperty(key);
+                }
+            });
+        }
+    }
+
+    /**
+     * Guarda a lista recebida e a devolvida pelo interceptor
+     */
+    private static class RecordingScheduler extends CostScheduler {
+
+        private List<IMethodInstance> input;
+        private List<IMethodInstance> output;
+
+        @Override
+        public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+            input = methods;
+            output = super.intercept(methods, context);
+            return output;
+        }
+    }
+
+    private static Task task(String id, String fixture, double seconds) {
+        return new Task(id, fixture, seconds);
+    }
+
+    private static List<String> ids(Schedule schedule) {
+        return schedule.order().stream().map(Task::id).toList();
+    }
+}
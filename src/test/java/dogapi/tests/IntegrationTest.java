@@ -1,6 +1,7 @@
 package dogapi.tests;
 
 import dogapi.client.DogApiClient;
+import dogapi.execution.SharedFixture;
 import io.qameta.allure.*;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
@@ -12,6 +13,7 @@ import static org.testng.Assert.*;
  */
 @Epic("Dog API Tests")
 @Feature("Integration Tests")
+@SharedFixture("breeds-list")
 public class IntegrationTest {
     
     private DogApiClient dogApiClient;
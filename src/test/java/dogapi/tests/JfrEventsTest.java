@@ -0,0 +1,111 @@
+package dogapi.tests;
+
+import dogapi.client.DogApiClient;
+import dogapi.server.LocalDogApiServer;
+import dogapi.transport.DogApiTransport;
+import dogapi.transport.TransportBenchmark;
+import io.qameta.allure.*;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.*;
+
+/**
+ * Testes para os eventos JFR emitidos pelo cliente e pelo filtro HTTP
+ */
+@Epic("Dog API Tests")
+@Feature("JFR Events")
+public class JfrEventsTest {
+
+    private DogApiClient dogApiClient;
+
+    @BeforeClass
+    public void setUp() {
+        dogApiClient = new DogApiClient();
+    }
+
+    @Test(description = "Deve emitir eventos dogapi.HttpRequest e dogapi.ClientCall por chamada")
+    @Story("Eventos JFR")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Grava uma chamada ao cliente com JFR e valida os campos dos eventos customizados")
+    public void testClientCallEmitsEvents() throws Exception {
+        Path file = Files.createTempFile("dogapi-events", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("dogapi.HttpRequest");
+            recording.enable("dogapi.ClientCall");
+            recording.start();
+            try {
+                dogApiClient.getRandomImageAsObject();
+            } catch (Exception e) {
+                // Falhas de rede também devem gerar eventos (com o campo error preenchido)
+            }
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        Files.deleteIfExists(file);
+
+        RecordedEvent request = events.stream()
+                .filter(event -> event.getEventType().getName().equals("dogapi.HttpRequest"))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("Evento dogapi.HttpRequest não encontrado"));
+        assertEquals(request.getString("endpoint"), "/breeds/image/random", "Endpoint deve ser o caminho declarado");
+        assertEquals(request.getString("method"), "GET", "Método deve ser GET");
+        assertTrue(request.getString("url").endsWith("/breeds/image/random"), "URL deve ser a URL final");
+
+        RecordedEvent call = events.stream()
+                .filter(event -> event.getEventType().getName().equals("dogapi.ClientCall"))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("Evento dogapi.ClientCall não encontrado"));
+        assertEquals(call.getString("operation"), "getRandomImage", "Operação deve ser registrada");
+        assertEquals(call.getString("modelType"), "RandomImageResponse", "Modelo deve ser registrado");
+        assertTrue(call.getDuration().compareTo(request.getDuration()) >= 0,
+                "Chamada do cliente deve englobar a requisição HTTP");
+    }
+
+    @DataProvider(name = "transports")
+    public Object[][] transports() {
+        return TransportBenchmark.TRANSPORTS.stream().map(name -> new Object[]{name}).toArray(Object[][]::new);
+    }
+
+    @Test(dataProvider = "transports", description = "Deve emitir dogapi.HttpRequest em qualquer transporte")
+    @Story("Eventos JFR")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Requisições pelo REST Assured, pelo HttpClient do JDK e pelo HttpClient 5 geram o mesmo evento HTTP")
+    public void testEveryTransportEmitsHttpRequestEvent(String name) throws Exception {
+        Path file = Files.createTempFile("dogapi-events", ".jfr");
+        try (LocalDogApiServer server = LocalDogApiServer.withSampleCatalog(2, 20);
+             DogApiTransport transport = TransportBenchmark.create(name, server.getBaseUrl());
+             Recording recording = new Recording()) {
+            recording.enable("dogapi.HttpRequest");
+            recording.start();
+            transport.get(DogApiClient.BREED_IMAGES, Map.of("breed", "retriever"));
+            transport.getAsync(DogApiClient.BREED_IMAGES, Map.of("breed", "invalidbreed")).join();
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        Files.deleteIfExists(file);
+
+        assertEquals(events.size(), 2, "Cada requisição deve gerar um evento no transporte " + name);
+        RecordedEvent found = events.stream().filter(event -> event.getInt("statusCode") == 200).findFirst()
+                .orElseThrow(() -> new AssertionError("Evento da requisição com sucesso não encontrado"));
+        assertEquals(found.getString("endpoint"), DogApiClient.BREED_IMAGES, "Endpoint deve ser o caminho declarado");
+        assertEquals(found.getString("method"), "GET");
+        assertTrue(found.getString("url").endsWith("/breed/retriever/images"), "URL deve ser a URL final");
+        assertTrue(found.getLong("responseBytes") > 0, "Tamanho do corpo deve ser registrado");
+        assertTrue(events.stream().anyMatch(event -> event.getInt("statusCode") == 404),
+                "Resposta de erro também deve gerar evento");
+    }
+}
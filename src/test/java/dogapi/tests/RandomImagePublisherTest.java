@@ -0,0 +1,211 @@
+package dogapi.tests;
+
+import dogapi.model.RandomImageResponse;
+import dogapi.stream.RandomImagePublisher;
+import io.qameta.allure.*;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.testng.Assert.*;
+
+/**
+ * Testes do publisher reativo de imagens aleatórias (lotes simulados, sem acesso à rede)
+ */
+@Epic("Dog API Tests")
+@Feature("Random Image Stream")
+public class RandomImagePublisherTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    @AfterClass
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test(description = "Deve entregar exatamente a quantidade pedida pelo assinante")
+    @Story("Backpressure")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Pede 7 itens com lotes de 5 e verifica que só 7 imagens são buscadas e entregues")
+    public void testRespectsDemand() throws Exception {
+        FakeSource source = new FakeSource(0);
+        RandomImagePublisher publisher = new RandomImagePublisher(source, 5, 2, executor);
+        CollectingSubscriber subscriber = new CollectingSubscriber(7, 7);
+
+        publisher.subscribe(subscriber);
+
+        assertTrue(subscriber.received.await(5, TimeUnit.SECONDS), "Deve receber os 7 itens pedidos");
+        Thread.sleep(200);
+        assertEquals(subscriber.items.size(), 7, "Não deve entregar além da demanda");
+        assertEquals(source.fetchedItems.get(), 7, "Não deve buscar além da demanda");
+        assertTrue(subscriber.items.get(0).getMessage().startsWith("https://images.dog.ceo/breeds/"));
+        subscriber.subscription.cancel();
+    }
+
+    @Test(description = "Deve limitar o número de lotes em andamento")
+    @Story("Backpressure")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Com demanda ilimitada, verifica que nunca há mais lotes simultâneos que o limite configurado")
+    public void testBoundsInFlightBatches() throws Exception {
+        FakeSource source = new FakeSource(5);
+        RandomImagePublisher publisher = new RandomImagePublisher(source, 10, 3, executor);
+        CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE, 300);
+
+        publisher.subscribe(subscriber);
+
+        assertTrue(subscriber.received.await(10, TimeUnit.SECONDS), "Deve receber 300 itens");
+        subscriber.subscription.cancel();
+        assertTrue(source.maxConcurrent.get() <= 3,
+                "Lotes simultâneos (" + source.maxConcurrent.get() + ") devem respeitar o limite de 3");
+        assertTrue(source.maxConcurrent.get() >= 2, "Lotes devem ser buscados em paralelo");
+    }
+
+    @Test(description = "Deve propagar falhas dos lotes com onError")
+    @Story("Tratamento de erros")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Uma falha na busca de um lote encerra o fluxo com onError")
+    public void testPropagatesBatchFailure() throws Exception {
+        RandomImagePublisher publisher = new RandomImagePublisher(count -> {
+            throw new IllegalStateException("API indisponível");
+        }, 5, 1, executor);
+        CollectingSubscriber subscriber = new CollectingSubscriber(5, 5);
+
+        publisher.subscribe(subscriber);
+
+        assertTrue(subscriber.terminated.await(5, TimeUnit.SECONDS), "Fluxo deve terminar com erro");
+        assertTrue(subscriber.error.get() instanceof IllegalStateException, "Erro do lote deve ser propagado");
+    }
+
+    @Test(description = "Deve rejeitar pedidos não positivos")
+    @Story("Tratamento de erros")
+    @Severity(SeverityLevel.MINOR)
+    @Description("request(0) viola a especificação Reactive Streams e deve gerar onError")
+    public void testRejectsNonPositiveRequest() throws Exception {
+        RandomImagePublisher publisher = new RandomImagePublisher(new FakeSource(0), 5, 1, executor);
+        CollectingSubscriber subscriber = new CollectingSubscriber(0, 1);
+
+        publisher.subscribe(subscriber);
+
+        assertTrue(subscriber.terminated.await(5, TimeUnit.SECONDS), "Fluxo deve terminar com erro");
+        assertTrue(subscriber.error.get() instanceof IllegalArgumentException, "Deve sinalizar IllegalArgumentException");
+    }
+
+    @Test(description = "Deve entregar o buffer antes de propagar a falha de um lote")
+    @Story("Tratamento de erros")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Um IllegalArgumentException da origem não é violação da regra 3.9: os itens já recebidos são entregues antes do onError")
+    public void testDeliversBufferedItemsBeforeSourceFailure() {
+        AtomicInteger calls = new AtomicInteger();
+        // Executor síncrono e origem que devolve mais itens que o pedido: sobra item no buffer sem demanda
+        RandomImagePublisher publisher = new RandomImagePublisher(count -> {
+            if (calls.incrementAndGet() == 1) {
+                return List.of("https://images.dog.ceo/breeds/pug/n1.jpg", "https://images.dog.ceo/breeds/pug/n2.jpg",
+                        "https://images.dog.ceo/breeds/pug/n3.jpg");
+            }
+            throw new IllegalArgumentException("count inválido na origem");
+        }, 1, 2, Runnable::run);
+        CollectingSubscriber subscriber = new CollectingSubscriber(2, 3);
+
+        publisher.subscribe(subscriber);
+
+        assertEquals(subscriber.items.size(), 2);
+        assertNull(subscriber.error.get(), "Falha da origem não deve descartar o item no buffer");
+        subscriber.subscription.request(1);
+        assertEquals(subscriber.items.size(), 3, "Item do buffer deve ser entregue");
+        assertTrue(subscriber.error.get() instanceof IllegalArgumentException, "Falha do lote deve vir depois do buffer");
+    }
+
+    @Test(description = "Deve propagar apenas a primeira falha entre os lotes")
+    @Story("Tratamento de erros")
+    @Severity(SeverityLevel.MINOR)
+    @Description("Com dois lotes falhando, o onError traz a falha do primeiro")
+    public void testFirstBatchFailureWins() {
+        AtomicInteger calls = new AtomicInteger();
+        RandomImagePublisher publisher = new RandomImagePublisher(count -> {
+            throw calls.incrementAndGet() == 1 ? new IllegalStateException("primeira") : new RuntimeException("segunda");
+        }, 1, 2, Runnable::run);
+        CollectingSubscriber subscriber = new CollectingSubscriber(2, 2);
+
+        publisher.subscribe(subscriber);
+
+        assertEquals(calls.get(), 2, "Os dois lotes devem ter sido buscados");
+        assertEquals(subscriber.error.get().getMessage(), "primeira");
+    }
+
+    /**
+     * Simula /breeds/image/random/{count} com atraso e mede a concorrência.
+     */
+    private static class FakeSource implements RandomImagePublisher.BatchSource {
+
+        private final long delayMillis;
+        private final AtomicInteger fetchedItems = new AtomicInteger();
+        private final AtomicInteger concurrent = new AtomicInteger();
+        private final AtomicInteger maxConcurrent = new AtomicInteger();
+
+        private FakeSource(long delayMillis) {
+            this.delayMillis = delayMillis;
+        }
+
+        @Override
+        public List<String> fetch(int count) throws Exception {
+            maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(delayMillis);
+                List<String> urls = new ArrayList<>();
+                for (int i = 0; i < count; i++) {
+                    urls.add("https://images.dog.ceo/breeds/pug/n" + fetchedItems.incrementAndGet() + ".jpg");
+                }
+                return urls;
+            } finally {
+                concurrent.decrementAndGet();
+            }
+        }
+    }
+
+    private static class CollectingSubscriber implements Flow.Subscriber<RandomImageResponse> {
+
+        private final long initialRequest;
+        private final List<RandomImageResponse> items = new ArrayList<>();
+        private final CountDownLatch received;
+        private final CountDownLatch terminated = new CountDownLatch(1);
+        private final AtomicReference<Throwable> error = new AtomicReference<>();
+        private volatile Flow.Subscription subscription;
+
+        private CollectingSubscriber(long initialRequest, int expected) {
+            this.initialRequest = initialRequest;
+            this.received = new CountDownLatch(expected);
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(initialRequest);
+        }
+
+        @Override
+        public synchronized void onNext(RandomImageResponse item) {
+            items.add(item);
+            received.countDown();
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error.set(throwable);
+            terminated.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            terminated.countDown();
+        }
+    }
+}
@@ -2,6 +2,9 @@ package dogapi.tests;
 
 import dogapi.client.DogApiClient;
 import dogapi.model.RandomImageResponse;
+import dogapi.schema.SchemaValidator;
+import dogapi.schema.ValidationReport;
+import dogapi.stream.RandomImagePublisher;
 import dogapi.util.TestConstants;
 import io.qameta.allure.*;
 import io.restassured.response.Response;
@@ -9,7 +12,13 @@ import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.regex.Pattern;
 
 import static org.testng.Assert.*;
@@ -51,6 +60,11 @@ public class RandomImageTest {
         assertNotNull(imageResponse.getMessage(), "Message não deve ser nulo");
         assertFalse(imageResponse.getMessage().trim().isEmpty(), 
                 "URL da imagem não deve estar vazia");
+        
+        // Validação do contrato (schema RandomImageResponse)
+        ValidationReport schemaReport = SchemaValidator.validate(RandomImageResponse.class,
+                "/breeds/image/random", response.asString());
+        assertTrue(schemaReport.isValid(), schemaReport.toString());
     }
     
     @Test(description = "Deve validar formato da URL da imagem")
@@ -175,4 +189,54 @@ public class RandomImageTest {
                 String.format("Taxa de sucesso deve ser pelo menos 80%%. Obtido: %.2f%%", 
                         successRate * 100));
     }
+    
+    @Test(description = "Deve fornecer um fluxo de imagens aleatórias com backpressure")
+    @Story("Fluxo de imagens aleatórias")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Consome 12 imagens do RandomImagePublisher em lotes de 5 e valida as URLs recebidas")
+    public void testRandomImageStream() throws InterruptedException {
+        RandomImagePublisher publisher = new RandomImagePublisher(dogApiClient, 5, 2);
+        List<RandomImageResponse> images = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(1);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        
+        publisher.subscribe(new Flow.Subscriber<>() {
+            private Flow.Subscription subscription;
+            
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(12);
+            }
+            
+            @Override
+            public void onNext(RandomImageResponse item) {
+                images.add(item);
+                if (images.size() == 12) {
+                    subscription.cancel();
+                    done.countDown();
+                }
+            }
+            
+            @Override
+            public void onError(Throwable throwable) {
+                failure.set(throwable);
+                done.countDown();
+            }
+            
+            @Override
+            public void onComplete() {
+                done.countDown();
+            }
+        });
+        
+        assertTrue(done.await(TestConstants.DEFAULT_TIMEOUT, TimeUnit.MILLISECONDS), 
+                "Fluxo deve entregar as imagens dentro do timeout");
+        assertNull(failure.get(), "Fluxo não deve terminar com erro");
+        assertEquals(images.size(), 12, "Deve receber exatamente as 12 imagens pedidas");
+        for (RandomImageResponse image : images) {
+            assertTrue(imageUrlPattern.matcher(image.getMessage()).matches(), 
+                    "URL da imagem deve seguir o padrão: " + image.getMessage());
+        }
+    }
 }
\ No newline at end of file
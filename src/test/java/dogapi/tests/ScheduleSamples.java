@@ -0,0 +1,58 @@
+package dogapi.tests;
+
+import org.testng.annotations.Factory;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Classes de exemplo executadas pelo {@link CostSchedulerTest} numa suíte própria do TestNG.
+ *
+ * Ficam fora da classe de teste porque o TestNG também executa as classes aninhadas das
+ * classes listadas no {@code testng.xml}.
+ */
+public final class ScheduleSamples {
+
+    /** Ordem em que os métodos de exemplo executaram. */
+    static final List<String> EXECUTED = Collections.synchronizedList(new ArrayList<>());
+
+    private ScheduleSamples() {
+        // Classe utilitária - construtor privado
+    }
+
+    public static class SampleA {
+
+        @Test
+        public void fast() {
+            EXECUTED.add("A#fast");
+        }
+
+        @Test
+        public void slow() {
+            EXECUTED.add("A#slow");
+        }
+    }
+
+    public static class SampleB {
+
+        @Test
+        public void medium() {
+            EXECUTED.add("B#medium");
+        }
+
+        @Test
+        public void unknown() {
+            EXECUTED.add("B#unknown");
+        }
+    }
+
+    public static class SampleFactory {
+
+        @Factory
+        public Object[] instances() {
+            return new Object[]{new SampleA(), new SampleA()};
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package dogapi.tests;
+
+import dogapi.model.BreedImagesResponse;
+import dogapi.model.BreedsListResponse;
+import dogapi.model.ErrorResponse;
+import dogapi.model.RandomImageResponse;
+import dogapi.schema.SchemaRegistry;
+import dogapi.schema.SchemaValidator;
+import dogapi.schema.SchemaViolation;
+import dogapi.schema.Validated;
+import dogapi.schema.ValidationReport;
+import io.qameta.allure.*;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.testng.Assert.*;
+
+/**
+ * Testes do motor de validação de schemas (sem acesso à rede)
+ */
+@Epic("Dog API Tests")
+@Feature("Schema Validation")
+public class SchemaValidationTest {
+
+    private static final String BREEDS_LIST = "{\"message\":{\"retriever\":[\"golden\",\"flatcoated\"],\"pug\":[]},"
+            + "\"status\":\"success\"}";
+    private static final String BREED_IMAGES = "{\"message\":["
+            + "\"https://images.dog.ceo/breeds/retriever-golden/n02099601_100.jpg\","
+            + "\"https://images.dog.ceo/breeds/retriever-golden/n02099601_101.jpg\"],\"status\":\"success\"}";
+    private static final String RANDOM_IMAGE = "{\"message\":\"https://images.dog.ceo/breeds/pug/n02110958_1.jpg\","
+            + "\"status\":\"success\"}";
+    private static final String ERROR = "{\"status\":\"error\",\"message\":\"Breed not found (main breed does not exist)\","
+            + "\"code\":404}";
+
+    @Test(description = "Deve aceitar respostas válidas de todos os modelos")
+    @Story("Validar contratos")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Valida exemplos reais de cada endpoint nos modos árvore e streaming")
+    public void testValidBodies() throws Exception {
+        Map<Class<?>, String> bodies = Map.of(
+                BreedsListResponse.class, BREEDS_LIST,
+                BreedImagesResponse.class, BREED_IMAGES,
+                RandomImageResponse.class, RANDOM_IMAGE,
+                ErrorResponse.class, ERROR);
+
+        for (Map.Entry<Class<?>, String> body : bodies.entrySet()) {
+            assertTrue(SchemaRegistry.isStreamable(body.getKey()), "Schema deve suportar streaming: " + body.getKey());
+            ValidationReport tree = SchemaValidator.validate(body.getKey(), "exemplo", body.getValue());
+            ValidationReport streaming = SchemaValidator.validateStreaming(body.getKey(), "exemplo", stream(body.getValue()));
+            assertTrue(tree.isValid(), tree.toString());
+            assertTrue(streaming.isValid(), streaming.toString());
+            assertTrue(streaming.streaming(), "Validação deve ter sido feita durante o parsing");
+        }
+    }
+
+    @Test(description = "Deve reportar violações com ponteiro e palavra-chave")
+    @Story("Relatório estruturado")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Compara as violações encontradas pela validação completa e pela validação em streaming")
+    public void testViolationsMatchBetweenEngines() throws Exception {
+        String body = "{\"status\":\"fail\",\"message\":["
+                + "\"https://images.dog.ceo/breeds/pug/n02110958_1.jpg\",\"http://example.com/dog.txt\",42]}";
+
+        ValidationReport tree = SchemaValidator.validate(BreedImagesResponse.class, "invalido", body);
+        ValidationReport streaming = SchemaValidator.validateStreaming(BreedImagesResponse.class, "invalido", stream(body));
+
+        Set<String> expected = Set.of("/status enum", "/message/1 pattern", "/message/2 type");
+        assertEquals(keys(tree.violations()), expected, tree.toString());
+        assertEquals(keys(streaming.violations()), expected, streaming.toString());
+
+        ValidationReport missing = SchemaValidator.validateStreaming(RandomImageResponse.class, "sem message",
+                stream("{\"status\":\"success\"}"));
+        assertEquals(keys(missing.violations()), Set.of(" required"), missing.toString());
+    }
+
+    @Test(description = "Deve validar e converter para o modelo na mesma leitura")
+    @Story("Validação durante o parsing")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Lê o corpo como stream, valida e obtém o modelo sem segunda passagem")
+    public void testReadValidatesAndMaps() throws Exception {
+        Validated<BreedsListResponse> result = SchemaValidator.read(BreedsListResponse.class, "/breeds/list/all",
+                stream(BREEDS_LIST));
+
+        assertTrue(result.report().isValid(), result.report().toString());
+        assertNotNull(result.value(), "Modelo deve ser preenchido");
+        assertEquals(result.value().getMessage().get("retriever"), List.of("golden", "flatcoated"));
+
+        Validated<RandomImageResponse> malformed = SchemaValidator.read(RandomImageResponse.class, "truncado",
+                stream("{\"status\":\"success\",\"message\":"));
+        assertNull(malformed.value(), "JSON malformado não deve gerar modelo");
+        assertEquals(malformed.report().violations().get(0).keyword(), "syntax");
+    }
+
+    @Test(description = "Deve validar muitos corpos em paralelo mantendo a ordem")
+    @Story("Validação em paralelo")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Valida um lote de respostas em paralelo e confere a ordem e o relatório de cada uma")
+    public void testValidateAllInParallel() {
+        Map<String, String> bodies = new LinkedHashMap<>();
+        for (int i = 0; i < 500; i++) {
+            bodies.put("random-" + i, i == 250 ? "{\"status\":\"success\",\"message\":\"sem-url\"}" : RANDOM_IMAGE);
+        }
+
+        List<ValidationReport> reports = SchemaValidator.validateAll(RandomImageResponse.class, bodies);
+
+        assertEquals(reports.size(), bodies.size(), "Deve haver um relatório por corpo");
+        assertEquals(reports.stream().map(ValidationReport::source).toList(), List.copyOf(bodies.keySet()),
+                "Relatórios devem seguir a ordem de entrada");
+        List<String> invalid = reports.stream().filter(report -> !report.isValid())
+                .map(ValidationReport::source).toList();
+        assertEquals(invalid, List.of("random-250"));
+    }
+
+    private static InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Set<String> keys(List<SchemaViolation> violations) {
+        return violations.stream().map(violation -> violation.pointer() + " " + violation.keyword())
+                .collect(Collectors.toSet());
+    }
+}
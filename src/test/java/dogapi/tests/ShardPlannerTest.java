@@ -0,0 +1,130 @@
+package dogapi.tests;
+
+import dogapi.execution.ShardPlanner;
+import dogapi.execution.ShardPlanner.Shard;
+import dogapi.execution.ShardPlanner.WorkItem;
+import dogapi.execution.ShardResultMerger;
+import dogapi.execution.ShardResultMerger.Totals;
+import dogapi.execution.TestTimingHistory;
+import io.qameta.allure.*;
+import org.testng.annotations.Test;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.testng.Assert.*;
+
+/**
+ * Testes para o planejador de shards da suíte
+ */
+@Epic("Dog API Tests")
+@Feature("Test Sharding")
+public class ShardPlannerTest {
+
+    @Test(description = "Deve distribuir todos os itens sem duplicar nenhum")
+    @Story("Planejamento de shards")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Valida que cada item aparece em exatamente um shard")
+    public void testPlanCoversAllItems() {
+        List<WorkItem> items = List.of(
+                item("A", 5), item("B", 4), item("C", 3), item("D", 3), item("E", 2), item("F", 1));
+
+        List<Shard> shards = ShardPlanner.plan(items, 3);
+
+        assertEquals(shards.size(), 3, "Deve gerar a quantidade de shards solicitada");
+        List<String> assigned = shards.stream()
+                .flatMap(shard -> shard.getItems().stream())
+                .map(WorkItem::className)
+                .sorted()
+                .collect(Collectors.toList());
+        assertEquals(assigned, List.of("A", "B", "C", "D", "E", "F"), "Todos os itens devem ser atribuídos");
+    }
+
+    @Test(description = "Deve balancear a carga entre os shards pelo peso histórico")
+    @Story("Planejamento de shards")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Valida que o makespan do plano LPT fica próximo do ideal")
+    public void testPlanBalancesLoad() {
+        List<WorkItem> items = List.of(
+                item("A", 8), item("B", 7), item("C", 6), item("D", 5), item("E", 4), item("F", 3), item("G", 3));
+
+        List<Shard> shards = ShardPlanner.plan(items, 3);
+
+        double makespan = shards.stream().mapToDouble(Shard::getLoadSeconds).max().orElseThrow();
+        double ideal = 36.0 / 3;
+        assertTrue(makespan <= ideal * 4 / 3, "Makespan LPT deve respeitar o limite de 4/3 do ideal: " + makespan);
+    }
+
+    @Test(description = "Deve dividir por método usando pesos do histórico")
+    @Story("Planejamento de shards")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Valida a extração de métodos de teste e o uso dos tempos registrados")
+    public void testMethodModeUsesHistory() {
+        XmlSuite suite = new XmlSuite();
+        suite.setName("Suite");
+        XmlTest test = new XmlTest(suite);
+        test.setName("Test");
+        test.setXmlClasses(List.of(new XmlClass(BreedsListTest.class.getName(), false)));
+
+        TestTimingHistory history = new TestTimingHistory();
+        history.record(BreedsListTest.class.getName(), "testResponseTime", 9.0);
+        history.record(BreedsListTest.class.getName(), "testGetAllBreedsSuccess", 1.0);
+        history.record(BreedsListTest.class.getName(), "testResponseHeaders", 1.0);
+
+        List<WorkItem> items = ShardPlanner.workItems(suite, ShardPlanner.Mode.METHOD, history);
+
+        assertEquals(items.size(), 5, "BreedsListTest possui 5 métodos de teste");
+        WorkItem slowest = items.stream()
+                .max((a, b) -> Double.compare(a.weightSeconds(), b.weightSeconds()))
+                .orElseThrow();
+        assertEquals(slowest.methods(), List.of("testResponseTime"), "Peso do histórico deve ser aplicado");
+
+        XmlSuite shardSuite = ShardPlanner.toSuite(suite, ShardPlanner.plan(items, 2).get(0), 2);
+        assertTrue(shardSuite.toXml().contains("testResponseTime"),
+                "Método mais lento deve ir para o primeiro shard");
+    }
+
+    @Test(description = "Deve somar os totais dos shards e indicar falha quando algum teste falhou")
+    @Story("Mesclagem de shards")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Uma falha em um único shard marca o resultado mesclado como falho")
+    public void testMergeReportsFailures() throws Exception {
+        Path root = Files.createTempDirectory("shard-merge");
+        try {
+            writeReport(root.resolve("shard-1"), 3, 0, 0);
+            writeReport(root.resolve("shard-2"), 2, 1, 0);
+
+            Totals totals = ShardResultMerger.merge(List.of(root.resolve("shard-1"), root.resolve("shard-2")),
+                    root.resolve("out"));
+
+            assertEquals(totals, new Totals(5, 1, 0, 0));
+            assertTrue(totals.failed(), "Falha de um shard deve falhar a execução");
+            assertFalse(new Totals(5, 0, 0, 2).failed(), "Testes ignorados não são falha");
+            assertTrue(Files.exists(root.resolve("out/surefire-reports/TEST-TestSuite.xml")));
+        } finally {
+            try (var files = Files.walk(root)) {
+                for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+
+    private static void writeReport(Path shardDir, int tests, int failures, int errors) throws IOException {
+        Path reports = Files.createDirectories(shardDir.resolve("surefire-reports"));
+        Files.writeString(reports.resolve("TEST-TestSuite.xml"), String.format(
+                "<testsuite name=\"TestSuite\" tests=\"%d\" failures=\"%d\" errors=\"%d\" skipped=\"0\" time=\"1.0\"/>",
+                tests, failures, errors));
+    }
+
+    private static WorkItem item(String className, double seconds) {
+        return new WorkItem("Test", className, List.of("test"), seconds);
+    }
+}
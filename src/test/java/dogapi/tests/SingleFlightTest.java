@@ -0,0 +1,214 @@
+package dogapi.tests;
+
+import dogapi.client.DogApiClient;
+import dogapi.client.SingleFlight;
+import dogapi.model.BreedImagesResponse;
+import dogapi.transport.DogApiTransport;
+import dogapi.transport.TransportResponse;
+import io.qameta.allure.*;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.*;
+
+/**
+ * Testes da deduplicação de chamadas simultâneas (sem acesso à rede)
+ */
+@Epic("Dog API Tests")
+@Feature("Request Coalescing")
+public class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    @Test(description = "Deve executar uma única chamada para chamadores simultâneos")
+    @Story("Coalescência de chamadas")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Oito threads pedem a mesma chave enquanto a chamada está em andamento e recebem o mesmo objeto")
+    public void testConcurrentCallsShareOneExecution() throws Exception {
+        SingleFlight singleFlight = new SingleFlight();
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<Future<Object>> results = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(executor.submit(() -> singleFlight.execute("getAllBreeds:", () -> {
+                    executions.incrementAndGet();
+                    await(release);
+                    return new Object();
+                })));
+            }
+            // Aguarda todos os chamadores estarem esperando pela chamada em andamento
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (singleFlight.getCoalescedCalls() < CALLERS - 1 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            release.countDown();
+
+            Object first = results.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<Object> result : results) {
+                assertSame(result.get(5, TimeUnit.SECONDS), first, "Todos devem receber o mesmo resultado");
+            }
+            assertEquals(executions.get(), 1, "A chamada deve ser executada uma única vez");
+            assertEquals(singleFlight.getExecutedCalls(), 1);
+            assertEquals(singleFlight.getCoalescedCalls(), CALLERS - 1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(description = "Deve propagar a mesma exceção para todos os chamadores")
+    @Story("Coalescência de chamadas")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Uma falha na chamada em andamento é repassada às threads que aguardavam")
+    public void testFailureIsSharedWithWaiters() throws Exception {
+        SingleFlight singleFlight = new SingleFlight();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Object> leader = executor.submit(() -> singleFlight.execute("getBreedImages:retriever", () -> {
+                await(release);
+                throw new IllegalStateException("falha na API");
+            }));
+            while (singleFlight.getExecutedCalls() == 0) {
+                Thread.sleep(5);
+            }
+            Future<Object> follower = executor.submit(() -> singleFlight.execute("getBreedImages:retriever",
+                    () -> {
+                        throw new AssertionError("Segunda chamada não deve ser executada");
+                    }));
+            while (singleFlight.getCoalescedCalls() == 0) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            for (Future<Object> result : List.of(leader, follower)) {
+                ExecutionException error = expectThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+                assertTrue(error.getCause() instanceof IllegalStateException, "Exceção original deve ser propagada");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(description = "Não deve reaproveitar resultados de chamadas já concluídas")
+    @Story("Coalescência de chamadas")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Chamadas sequenciais e chaves diferentes são sempre executadas")
+    public void testSequentialAndDistinctCallsAreNotCoalesced() {
+        SingleFlight singleFlight = new SingleFlight();
+
+        singleFlight.execute("getBreedImages:retriever", Object::new);
+        singleFlight.execute("getBreedImages:retriever", Object::new);
+        singleFlight.execute("getBreedImages:pug", Object::new);
+
+        assertEquals(singleFlight.getExecutedCalls(), 3);
+        assertEquals(singleFlight.getCoalescedCalls(), 0);
+    }
+
+    @Test(description = "Deve entregar um modelo próprio a cada chamador coalescido")
+    @Story("Coalescência de chamadas")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Chamadores simultâneos do DogApiClient compartilham a requisição, mas não o objeto; quem aguardou é marcado no evento JFR")
+    public void testClientCallersReceiveOwnModel() throws Exception {
+        AtomicInteger requests = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        DogApiClient client = new DogApiClient(new BlockingTransport(requests, release));
+        SingleFlight stats = DogApiClient.coalescing();
+        long coalescedBefore = stats.getCoalescedCalls();
+        Path file = Files.createTempFile("dogapi-coalesced", ".jfr");
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        List<BreedImagesResponse> responses = new ArrayList<>();
+        try (Recording recording = new Recording()) {
+            recording.enable("dogapi.ClientCall");
+            recording.start();
+            Future<BreedImagesResponse> leader = executor.submit(() -> client.getBreedImagesAsObject("retriever"));
+            while (requests.get() == 0) {
+                Thread.sleep(5);
+            }
+            Future<BreedImagesResponse> follower = executor.submit(() -> client.getBreedImagesAsObject("retriever"));
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (stats.getCoalescedCalls() == coalescedBefore && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+            responses.add(leader.get(5, TimeUnit.SECONDS));
+            responses.add(follower.get(5, TimeUnit.SECONDS));
+            recording.stop();
+            recording.dump(file);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        Files.deleteIfExists(file);
+
+        assertEquals(requests.get(), 1, "A requisição deve ser executada uma única vez");
+        assertNotSame(responses.get(0), responses.get(1), "Cada chamador deve receber o seu objeto");
+        assertEquals(responses.get(1).getMessage(), responses.get(0).getMessage());
+        responses.get(0).getMessage().clear();
+        assertEquals(responses.get(1).getMessage().size(), 2, "Alterar um modelo não deve afetar o outro");
+        assertEquals(events.size(), 2, "Cada chamador deve emitir o seu ClientCallEvent");
+        assertEquals(events.stream().filter(event -> event.getBoolean("coalesced")).count(), 1L,
+                "Apenas o chamador que aguardou deve ser marcado como coalescido");
+    }
+
+    /**
+     * Transporte que responde a lista de imagens só depois de liberado
+     */
+    private static class BlockingTransport implements DogApiTransport {
+
+        private static final byte[] BODY = ("{\"message\":[\"https://images.dog.ceo/breeds/retriever/a.jpg\","
+                + "\"https://images.dog.ceo/breeds/retriever/b.jpg\"],\"status\":\"success\"}")
+                .getBytes(StandardCharsets.UTF_8);
+
+        private final AtomicInteger requests;
+        private final CountDownLatch release;
+
+        BlockingTransport(AtomicInteger requests, CountDownLatch release) {
+            this.requests = requests;
+            this.release = release;
+        }
+
+        @Override
+        public String getBaseUrl() {
+            return "http://blocking.invalid";
+        }
+
+        @Override
+        public String getName() {
+            return "blocking";
+        }
+
+        @Override
+        public TransportResponse get(String pathTemplate, Map<String, ?> pathParams) {
+            requests.incrementAndGet();
+            await(release);
+            return new TransportResponse(200, "application/json", Map.of(), BODY, 0);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
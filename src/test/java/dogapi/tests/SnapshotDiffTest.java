@@ -0,0 +1,177 @@
+package dogapi.tests;
+
+import dogapi.client.DogApiClient;
+import dogapi.model.BreedImagesResponse;
+import dogapi.model.BreedsListResponse;
+import dogapi.snapshot.BreedChange;
+import dogapi.snapshot.CatalogDiff;
+import dogapi.snapshot.CatalogMonitor;
+import dogapi.snapshot.CatalogSnapshot;
+import dogapi.snapshot.SnapshotStore;
+import dogapi.server.LocalDogApiServer;
+import dogapi.transport.JdkHttpTransport;
+import io.qameta.allure.*;
+import org.testng.annotations.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.*;
+
+/**
+ * Testes do diff e do armazenamento versionado de snapshots do catálogo (sem acesso à rede)
+ */
+@Epic("Dog API Tests")
+@Feature("Catalog Snapshots")
+public class SnapshotDiffTest {
+
+    private static final String IMAGE = "https://images.dog.ceo/breeds/%s/n0%07d.jpg";
+
+    @Test(description = "Deve detectar raças, sub-raças e imagens adicionadas e removidas")
+    @Story("Diff de snapshots")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Compara dois snapshots e valida as alterações reportadas por raça")
+    public void testDiffReportsChanges() {
+        CatalogSnapshot before = snapshot(
+                Map.of("retriever", List.of("golden", "flatcoated"), "pug", List.of(), "akita", List.of()),
+                Map.of("retriever", images("retriever-golden", 0, 3)));
+        CatalogSnapshot after = snapshot(
+                Map.of("retriever", List.of("golden", "chesapeake"), "pug", List.of(), "beagle", List.of()),
+                Map.of("retriever", images("retriever-golden", 1, 4)));
+
+        CatalogDiff diff = CatalogDiff.between(before, after);
+
+        assertEquals(diff.addedBreeds(), List.of("beagle"));
+        assertEquals(diff.removedBreeds(), List.of("akita"));
+        BreedChange retriever = diff.changes().stream()
+                .filter(change -> change.breed().equals("retriever")).findFirst()
+                .orElseThrow(() -> new AssertionError("Alteração do retriever não reportada"));
+        assertEquals(retriever.kind(), BreedChange.Kind.CHANGED);
+        assertEquals(retriever.addedSubBreeds(), List.of("chesapeake"));
+        assertEquals(retriever.removedSubBreeds(), List.of("flatcoated"));
+        assertEquals(retriever.addedImages(), List.of(String.format(IMAGE, "retriever-golden", 3)));
+        assertEquals(retriever.removedImages(), List.of(String.format(IMAGE, "retriever-golden", 0)));
+        assertTrue(diff.changes().stream().noneMatch(change -> change.breed().equals("pug")),
+                "Raça inalterada não deve aparecer no diff");
+    }
+
+    @Test(description = "Deve considerar iguais snapshots com o mesmo conteúdo em outra ordem")
+    @Story("Diff de snapshots")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("A impressão digital independe da ordem das listas e do instante de captura")
+    public void testSameContentHasSameFingerprint() {
+        CatalogSnapshot first = snapshot(Map.of("hound", List.of("afghan", "basset")), Map.of());
+        CatalogSnapshot second = snapshot(Map.of("hound", List.of("basset", "afghan")), Map.of());
+
+        assertEquals(first.getFingerprint(), second.getFingerprint(), "Impressões digitais devem coincidir");
+        assertTrue(CatalogDiff.between(first, second).isEmpty(), "Diff deve ser vazio");
+    }
+
+    @Test(description = "Deve reconstruir qualquer versão a partir de snapshots completos e deltas")
+    @Story("Armazenamento versionado")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Grava várias versões com deltas e confere a reconstrução, o diff entre versões e o tamanho em disco")
+    public void testStoreRoundTripWithDeltas() throws Exception {
+        Path directory = Files.createTempDirectory("catalog-snapshots");
+        SnapshotStore store = new SnapshotStore(directory, 3);
+        List<CatalogSnapshot> saved = new ArrayList<>();
+
+        for (int version = 1; version <= 7; version++) {
+            Map<String, List<String>> breeds = new HashMap<>();
+            Map<String, List<String>> images = new HashMap<>();
+            for (int breed = 0; breed < 50 + version; breed++) {
+                String name = "breed" + breed;
+                breeds.put(name, breed % 5 == 0 ? List.of("sub" + version) : List.of());
+                images.put(name, images(name, version, 200));
+            }
+            CatalogSnapshot snapshot = snapshot(breeds, images);
+            CatalogDiff diff = store.save(snapshot);
+            assertEquals(diff.toVersion(), version, "Cada snapshot alterado deve gerar nova versão");
+            saved.add(snapshot);
+        }
+        assertTrue(store.save(saved.get(6)).isEmpty(), "Snapshot igual à última versão não deve ser gravado");
+        assertEquals(store.versions(), List.of(1, 2, 3, 4, 5, 6, 7));
+
+        SnapshotStore reopened = new SnapshotStore(directory, 3);
+        for (int version = 1; version <= 7; version++) {
+            assertEquals(reopened.load(version).getFingerprint(), saved.get(version - 1).getFingerprint(),
+                    "Versão " + version + " deve ser reconstruída sem perdas");
+        }
+        CatalogDiff diff = reopened.diff(2, 5);
+        assertEquals(diff.addedBreeds(), List.of("breed52", "breed53", "breed54"));
+
+        long imageBytes = saved.stream().mapToLong(snapshot -> snapshot.getBreeds().stream()
+                .flatMap(breed -> snapshot.getImages(breed).stream()).mapToLong(String::length).sum()).sum();
+        assertTrue(reopened.sizeOnDisk() * 20 < imageBytes,
+                String.format("Armazenamento (%d bytes) deve ser muito menor que o conteúdo (%d bytes)",
+                        reopened.sizeOnDisk(), imageBytes));
+    }
+
+    @Test(description = "Não deve reportar imagens removidas quando a captura é parcial")
+    @Story("Diff de snapshots")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Imagens não buscadas ou com resposta de erro não contam como removidas e o armazenamento mantém as últimas conhecidas")
+    public void testPartialCaptureIsNotRemoval() throws Exception {
+        BreedsListResponse breeds = new BreedsListResponse(
+                Map.of("retriever", List.of("golden"), "pug", List.of(), "akita", List.of()), "success");
+        CatalogSnapshot full = CatalogSnapshot.capture(breeds, Map.of(
+                "retriever", new BreedImagesResponse(images("retriever-golden", 0, 3), "success"),
+                "pug", new BreedImagesResponse(images("pug", 0, 2), "success"),
+                "akita", new BreedImagesResponse(List.of(), "success")));
+        CatalogSnapshot partial = CatalogSnapshot.capture(breeds, Map.of(
+                "pug", new BreedImagesResponse(null, "error")));
+
+        assertTrue(full.hasImages("akita"), "Lista vazia capturada deve contar como captura");
+        assertFalse(partial.hasImages("pug"), "Resposta de erro não deve contar como captura");
+        assertTrue(CatalogDiff.between(full, partial).isEmpty(), "Captura parcial não deve gerar alterações");
+        assertTrue(CatalogDiff.between(partial, full).isEmpty(), "Primeira captura das imagens não é alteração");
+
+        SnapshotStore store = new SnapshotStore(Files.createTempDirectory("catalog-snapshots"));
+        store.save(full);
+        assertTrue(store.save(partial).isEmpty(), "Captura parcial não deve gerar alterações no armazenamento");
+        assertEquals(store.latest().orElseThrow().getImages("pug"), images("pug", 0, 2),
+                "Últimas imagens conhecidas devem ser mantidas");
+
+        CatalogSnapshot changed = CatalogSnapshot.capture(breeds, Map.of(
+                "pug", new BreedImagesResponse(images("pug", 1, 2), "success")));
+        CatalogDiff diff = store.save(changed);
+        assertEquals(diff.changes().size(), 1, "Só a raça recapturada deve ser comparada");
+        assertEquals(diff.changes().get(0).removedImages(), List.of(String.format(IMAGE, "pug", 0)));
+    }
+
+    @Test(description = "Deve seguir o monitoramento quando uma raça responde com erro")
+    @Story("Monitoramento do catálogo")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Um 404 nas imagens de uma raça é registrado e a raça fica sem captura, sem abortar a execução")
+    public void testMonitorSkipsBreedWithError() throws Exception {
+        try (LocalDogApiServer server = LocalDogApiServer.withSampleCatalog(2, 5)) {
+            DogApiClient client = new DogApiClient(new JdkHttpTransport(server.getBaseUrl()));
+            SnapshotStore store = new SnapshotStore(Files.createTempDirectory("catalog-snapshots"));
+
+            CatalogDiff diff = CatalogMonitor.run(client, store, "retriever,invalidbreed,breed1");
+
+            CatalogSnapshot latest = store.latest().orElseThrow();
+            assertEquals(diff.fromVersion(), 0, "Deve gravar a primeira versão");
+            assertEquals(latest.getImages("retriever").size(), 5);
+            assertEquals(latest.getImages("breed1").size(), 5, "Raças depois da que falhou devem ser capturadas");
+            assertFalse(latest.hasImages("invalidbreed"));
+        }
+    }
+
+    private static CatalogSnapshot snapshot(Map<String, List<String>> breeds, Map<String, List<String>> images) {
+        return new CatalogSnapshot(Instant.now(), breeds, images);
+    }
+
+    private static List<String> images(String directory, int from, int to) {
+        List<String> urls = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            urls.add(String.format(IMAGE, directory, i));
+        }
+        return urls;
+    }
+}
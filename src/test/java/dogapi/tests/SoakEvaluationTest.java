@@ -0,0 +1,118 @@
+package dogapi.tests;
+
+import dogapi.model.BaseResponse;
+import dogapi.soak.SoakConfig;
+import dogapi.soak.SoakRunner;
+import dogapi.soak.SoakWindow;
+import io.qameta.allure.*;
+import io.restassured.builder.ResponseBuilder;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntUnaryOperator;
+
+import static org.testng.Assert.*;
+
+/**
+ * Testes da avaliação de tendência do modo soak com janelas sintéticas (sem acesso à rede)
+ */
+@Epic("Dog API Tests")
+@Feature("Soak Mode")
+public class SoakEvaluationTest {
+
+    private static final SoakConfig CONFIG = new SoakConfig(Duration.ofMinutes(6), Duration.ofMinutes(1), 1, 20, 1.5, 10);
+    private static final long MB = 1024 * 1024;
+
+    @Test(description = "Deve aprovar um soak estável")
+    @Story("Avaliação do soak")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Heap, p99 e threads dentro dos limites não geram violações")
+    public void testStableRunPasses() {
+        List<SoakWindow> windows = windows(i -> 100 + i * 3, i -> 10, i -> 20);
+
+        assertEquals(SoakRunner.evaluate(windows, CONFIG), List.of());
+    }
+
+    @Test(description = "Deve reprovar crescimento do heap pós-GC acima do limite")
+    @Story("Avaliação do soak")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("A menor medição de heap vivo das últimas janelas é comparada com a linha de base")
+    public void testHeapGrowthFails() {
+        List<SoakWindow> windows = windows(i -> 100 + i * 20, i -> 10, i -> 20);
+
+        List<String> violations = SoakRunner.evaluate(windows, CONFIG);
+
+        assertEquals(violations.size(), 1, violations.toString());
+        assertTrue(violations.get(0).startsWith("Heap pós-GC cresceu"), violations.get(0));
+    }
+
+    @Test(description = "Deve reprovar aumento do p99 acima da razão configurada")
+    @Story("Avaliação do soak")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("A mediana do p99 das últimas janelas é comparada com o p99 da linha de base")
+    public void testP99DriftFails() {
+        assertEquals(SoakRunner.evaluate(windows(i -> 100, i -> i < 4 ? 10 : 14, i -> 20), CONFIG), List.of(),
+                "1.4x deve ficar dentro do limite de 1.5x");
+
+        List<String> violations = SoakRunner.evaluate(windows(i -> 100, i -> i < 3 ? 10 : 16, i -> 20), CONFIG);
+
+        assertEquals(violations.size(), 1, violations.toString());
+        assertTrue(violations.get(0).startsWith("p99 subiu"), violations.get(0));
+    }
+
+    @Test(description = "Deve reprovar crescimento no número de threads acima do limite")
+    @Story("Avaliação do soak")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Threads da última janela menos as da linha de base são comparadas com soak.threadGrowth")
+    public void testThreadGrowthFails() {
+        assertEquals(SoakRunner.evaluate(windows(i -> 100, i -> 10, i -> 20 + i * 2), CONFIG), List.of(),
+                "Aumento de 8 threads deve ficar dentro do limite de 10");
+
+        List<String> violations = SoakRunner.evaluate(windows(i -> 100, i -> 10, i -> 20 + i * 3), CONFIG);
+
+        assertEquals(violations.size(), 1, violations.toString());
+        assertTrue(violations.get(0).startsWith("Número de threads aumentou em 12"), violations.get(0));
+    }
+
+    @Test(description = "Não deve avaliar tendência com menos de duas janelas")
+    @Story("Avaliação do soak")
+    @Severity(SeverityLevel.MINOR)
+    @Description("Com uma única janela não há tendência e o soak não reprova")
+    public void testSingleWindowIsNotEvaluated() {
+        List<SoakWindow> windows = windows(i -> 100 + i * 100, i -> 10 + i * 100, i -> 20 + i * 100);
+
+        assertEquals(SoakRunner.evaluate(windows.subList(0, 1), CONFIG), List.of());
+    }
+
+    @Test(description = "Deve contar respostas fora da faixa 2xx como erro")
+    @Story("Contagem de erros do soak")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Chamadas que retornam Response com 4xx/5xx ou modelo com status de erro não contam como sucesso")
+    public void testNonSuccessResponsesCountAsErrors() {
+        assertTrue(SoakRunner.succeeded(new ResponseBuilder().setStatusCode(200).build()));
+        assertFalse(SoakRunner.succeeded(new ResponseBuilder().setStatusCode(404).build()));
+        assertFalse(SoakRunner.succeeded(new ResponseBuilder().setStatusCode(500).build()));
+        assertTrue(SoakRunner.succeeded(new BaseResponse("success")));
+        assertFalse(SoakRunner.succeeded(new BaseResponse("error")));
+    }
+
+    /**
+     * Seis janelas fechadas; cada função recebe o índice da janela.
+     */
+    private static List<SoakWindow> windows(IntUnaryOperator heapMb, IntUnaryOperator p99Millis,
+                                            IntUnaryOperator threads) {
+        List<SoakWindow> windows = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            SoakWindow window = new SoakWindow(i);
+            for (int request = 0; request < 100; request++) {
+                window.recordRequest(request < 98 ? 5_000_000 : p99Millis.applyAsInt(i) * 1_000_000L, true);
+            }
+            window.recordHeapAfterGc(heapMb.applyAsInt(i) * MB);
+            window.close(heapMb.applyAsInt(i) * MB * 2, threads.applyAsInt(i));
+            windows.add(window);
+        }
+        return windows;
+    }
+}
@@ -0,0 +1,158 @@
+package dogapi.tests;
+
+import dogapi.client.DogApiClient;
+import dogapi.dataset.DatasetSpec;
+import dogapi.dataset.SyntheticDataset;
+import dogapi.dataset.SyntheticDatasetGenerator;
+import dogapi.model.BreedImagesResponse;
+import dogapi.model.BreedsListResponse;
+import dogapi.schema.SchemaValidator;
+import dogapi.schema.ValidationReport;
+import dogapi.server.LocalDogApiServer;
+import dogapi.transport.JdkHttpTransport;
+import dogapi.util.TestConstants;
+import io.qameta.allure.*;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.testng.Assert.*;
+
+/**
+ * Testes do gerador de datasets sintéticos (sem acesso à rede)
+ */
+@Epic("Dog API Tests")
+@Feature("Synthetic Dataset")
+public class SyntheticDatasetTest {
+
+    private static final DatasetSpec SPEC = new DatasetSpec(200, 5_003, 3, 42);
+    private static final Pattern IMAGE_URL = Pattern.compile(TestConstants.IMAGE_URL_PATTERN);
+
+    private Path root;
+    private SyntheticDataset dataset;
+
+    @BeforeClass
+    public void setUp() throws IOException {
+        root = Files.createTempDirectory("synthetic-dataset");
+        dataset = SyntheticDatasetGenerator.generate(SPEC, root.resolve("a"));
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(root)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test(description = "Deve gerar o catálogo na escala pedida, ordenado e com nomes únicos")
+    @Story("Dataset sintético")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("O manifest e o /breeds/list/all refletem a especificação e as raças vêm em ordem alfabética")
+    public void testCatalogMatchesSpec() throws IOException {
+        SyntheticDataset opened = SyntheticDataset.open(dataset.getDirectory());
+        BreedsListResponse breeds = opened.readBreeds();
+        List<String> names = new ArrayList<>(breeds.getMessage().keySet());
+
+        assertEquals(opened.getSpec(), SPEC);
+        assertEquals(opened.getSizeBytes(), dataset.getSizeBytes());
+        assertTrue(breeds.isSuccess());
+        assertEquals(names.size(), SPEC.breeds());
+        assertEquals(names, names.stream().sorted().distinct().toList(), "Raças devem ser únicas e ordenadas");
+        long subBreeds = breeds.getMessage().values().stream().mapToLong(List::size).sum();
+        assertEquals(subBreeds, opened.getSubBreedCount());
+        assertTrue(subBreeds > 0, "Parte das raças deve ter sub-raças");
+    }
+
+    @Test(description = "Deve distribuir todas as imagens com URLs no layout real")
+    @Story("Dataset sintético")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("A soma das imagens lidas em fluxo é o total pedido e toda URL segue IMAGE_URL_PATTERN")
+    public void testImagesFollowUrlLayout() throws IOException {
+        BreedsListResponse breeds = dataset.readBreeds();
+        long total = 0;
+        List<String> invalid = new ArrayList<>();
+        for (Map.Entry<String, List<String>> breed : breeds.getMessage().entrySet()) {
+            total += dataset.forEachImage(breed.getKey(), url -> {
+                if (!IMAGE_URL.matcher(url).matches() || !url.contains("/breeds/" + breed.getKey())) {
+                    invalid.add(url);
+                }
+            });
+            for (String subBreed : breed.getValue()) {
+                List<String> images = dataset.readSubBreedImages(breed.getKey(), subBreed).getMessage();
+                assertFalse(images.isEmpty(), "Sub-raça sem imagens: " + subBreed);
+                images.forEach(url -> assertTrue(url.contains("/breeds/" + breed.getKey() + "-" + subBreed + "/"), url));
+            }
+        }
+
+        assertEquals(total, SPEC.images());
+        assertTrue(invalid.isEmpty(), "URLs fora do padrão: " + invalid.stream().limit(5).toList());
+    }
+
+    @Test(description = "Deve gerar arquivos válidos pelo schema das respostas")
+    @Story("Dataset sintético")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Os arquivos de lista e de imagens passam na validação em fluxo dos modelos")
+    public void testFilesMatchSchemas() throws IOException {
+        String breed = dataset.readBreeds().getMessage().keySet().iterator().next();
+
+        try (InputStream in = Files.newInputStream(dataset.breedsFile())) {
+            ValidationReport report = SchemaValidator.validateStreaming(BreedsListResponse.class, "breeds", in);
+            assertTrue(report.isValid(), report.toString());
+        }
+        try (InputStream in = Files.newInputStream(dataset.breedImagesFile(breed))) {
+            ValidationReport report = SchemaValidator.validateStreaming(BreedImagesResponse.class, breed, in);
+            assertTrue(report.isValid(), report.toString());
+        }
+    }
+
+    @Test(description = "Deve ser determinístico para a mesma semente")
+    @Story("Dataset sintético")
+    @Severity(SeverityLevel.MINOR)
+    @Description("A mesma especificação gera os mesmos bytes; outra semente gera outro catálogo")
+    public void testDeterministicBySeed() throws IOException {
+        SyntheticDataset same = SyntheticDatasetGenerator.generate(SPEC, root.resolve("b"));
+        SyntheticDataset other = SyntheticDatasetGenerator.generate(
+                new DatasetSpec(SPEC.breeds(), SPEC.images(), SPEC.maxSubBreeds(), 7), root.resolve("c"));
+
+        assertEquals(Files.readAllBytes(same.breedsFile()), Files.readAllBytes(dataset.breedsFile()));
+        assertEquals(same.getSizeBytes(), dataset.getSizeBytes());
+        assertNotEquals(Files.readAllBytes(other.breedsFile()), Files.readAllBytes(dataset.breedsFile()));
+        assertThrows(IllegalArgumentException.class, () -> new DatasetSpec(0, 10, 1, 1));
+    }
+
+    @Test(description = "Deve servir o dataset pelo servidor local")
+    @Story("Dataset sintético")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Com serveDirectory, o cliente recebe pelo HTTP as mesmas respostas gravadas em disco")
+    public void testServedByLocalServer() throws IOException {
+        try (LocalDogApiServer server = LocalDogApiServer.start().serveDirectory(dataset.getDirectory())) {
+            DogApiClient client = new DogApiClient(new JdkHttpTransport(server.getBaseUrl()));
+            BreedsListResponse breeds = client.getAllBreedsAsObject();
+            String breed = breeds.getMessage().keySet().iterator().next();
+
+            assertEquals(breeds.getMessage(), dataset.readBreeds().getMessage());
+            assertEquals(client.getBreedImagesAsObject(breed).getMessage(),
+                    dataset.readBreedImages(breed).getMessage());
+        }
+        try (LocalDogApiServer server = LocalDogApiServer.start().serveDirectory(dataset.getDirectory().resolve("breeds"))) {
+            JdkHttpTransport transport = new JdkHttpTransport(server.getBaseUrl());
+
+            assertEquals(transport.get("/list/all", Map.of()).statusCode(), 200);
+            assertEquals(transport.get("/../manifest", Map.of()).statusCode(), 404,
+                    "Arquivos fora do diretório servido não devem ser acessíveis");
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package dogapi.tests;
+
+import dogapi.client.DogApiClient;
+import dogapi.model.BreedImagesResponse;
+import dogapi.model.BreedsListResponse;
+import dogapi.model.RandomImageResponse;
+import dogapi.server.LocalDogApiServer;
+import dogapi.transport.DogApiTransport;
+import dogapi.transport.JdkHttpTransport;
+import dogapi.transport.TransportBenchmark;
+import dogapi.transport.TransportResponse;
+import dogapi.util.TestConstants;
+import io.qameta.allure.*;
+import io.restassured.RestAssured;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.parsing.Parser;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.*;
+
+/**
+ * Testes dos transportes do cliente contra o servidor local (sem acesso à rede)
+ */
+@Epic("Dog API Tests")
+@Feature("Transports")
+public class TransportTest {
+
+    private LocalDogApiServer server;
+
+    @BeforeClass
+    public void setUp() throws Exception {
+        server = LocalDogApiServer.withSampleCatalog(5, 10);
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void tearDown() {
+        server.close();
+        // O construtor do cliente altera a configuração global do REST Assured
+        new DogApiClient();
+    }
+
+    @DataProvider(name = "transports")
+    public Object[][] transports() {
+        return TransportBenchmark.TRANSPORTS.stream().map(name -> new Object[]{name}).toArray(Object[][]::new);
+    }
+
+    @Test(dataProvider = "transports", description = "Deve converter as respostas em objetos com qualquer transporte")
+    @Story("Transportes plugáveis")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Lista de raças e imagens de uma raça devem ser iguais em todos os transportes")
+    public void testTransportMapsModels(String name) {
+        try (DogApiTransport transport = TransportBenchmark.create(name, server.getBaseUrl())) {
+            DogApiClient client = new DogApiClient(transport);
+
+            BreedsListResponse breeds = client.getAllBreedsAsObject();
+            assertEquals(breeds.getStatus(), TestConstants.SUCCESS_STATUS);
+            assertEquals(breeds.getMessage().size(), 5);
+            assertEquals(breeds.getMessage().get("retriever"), List.of("chesapeake", "curly", "flatcoated", "golden"));
+
+            BreedImagesResponse images = client.getBreedImagesAsObject("retriever");
+            assertEquals(images.getMessage().size(), 10);
+            assertTrue(images.getMessage().stream().allMatch(url -> url.matches(TestConstants.IMAGE_URL_PATTERN)),
+                    "URLs devem seguir o padrão das imagens da API");
+
+            RandomImageResponse random = client.getRandomImageAsObject();
+            assertTrue(random.getMessage().matches(TestConstants.IMAGE_URL_PATTERN));
+        }
+    }
+
+    @Test(dataProvider = "transports", description = "Deve expor status e corpo de erro da API")
+    @Story("Transportes plugáveis")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Raça inexistente deve devolver 404 com o corpo de erro, também pela chamada assíncrona")
+    public void testTransportErrorResponse(String name) throws Exception {
+        try (DogApiTransport transport = TransportBenchmark.create(name, server.getBaseUrl())) {
+            TransportResponse response = transport.getAsync(DogApiClient.BREED_IMAGES, Map.of("breed", "invalidbreed"))
+                    .get(10, TimeUnit.SECONDS);
+
+            assertEquals(response.statusCode(), 404);
+            assertTrue(response.contentType().startsWith("application/json"));
+            assertTrue(response.bodyAsString().contains("Breed not found"));
+        }
+    }
+
+    @Test(description = "Deve descomprimir com o REST Assured sem a configuração global do cliente")
+    @Story("Transportes plugáveis")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("O transporte REST Assured desliga os próprios decodificadores, sem depender de um DogApiClient criado antes")
+    public void testRestAssuredTransportStandalone() {
+        // Configuração global padrão só durante este teste: as demais classes da JVM seguem com a atual
+        RestAssuredConfig config = RestAssured.config;
+        String baseUri = RestAssured.baseURI;
+        Parser parser = RestAssured.defaultParser;
+        RestAssured.reset();
+        try (DogApiTransport transport = TransportBenchmark.create("rest-assured", server.getBaseUrl())) {
+            TransportResponse response = transport.get(DogApiClient.BREED_IMAGES, Map.of("breed", "retriever"));
+
+            assertEquals(response.statusCode(), 200);
+            assertTrue(response.body().length >= LocalDogApiServer.GZIP_MIN_LENGTH, "Resposta deve ter vindo comprimida");
+            assertTrue(response.bodyAsString().contains("/breeds/retriever/"), "Corpo deve chegar descomprimido uma única vez");
+        } finally {
+            RestAssured.config = config;
+            RestAssured.baseURI = baseUri;
+            RestAssured.defaultParser = parser;
+        }
+    }
+
+    @Test(description = "Não deve alterar a configuração global do REST Assured com outro transporte")
+    @Story("Transportes plugáveis")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Um DogApiClient com o transporte do JDK mantém a URL e a configuração globais do REST Assured")
+    public void testOtherTransportKeepsRestAssuredGlobals() {
+        RestAssuredConfig config = RestAssured.config;
+        String baseUri = RestAssured.baseURI;
+
+        new DogApiClient(new JdkHttpTransport(server.getBaseUrl()));
+
+        assertSame(RestAssured.config, config, "Configuração global não deve ser substituída");
+        assertEquals(RestAssured.baseURI, baseUri, "URL global não deve ser alterada");
+    }
+
+    @Test(description = "Deve medir todos os transportes no benchmark")
+    @Story("Benchmark")
+    @Severity(SeverityLevel.MINOR)
+    @Description("Execução curta do benchmark: todas as chamadas devem ter sucesso")
+    public void testBenchmarkSmoke() throws Exception {
+        List<TransportBenchmark.Result> results = TransportBenchmark.run(
+                server.getBaseUrl(), TransportBenchmark.TRANSPORTS, 60, 4, 10);
+
+        assertEquals(results.size(), TransportBenchmark.TRANSPORTS.size());
+        for (TransportBenchmark.Result result : results) {
+            assertEquals(result.failures(), 0, "Falhas no transporte " + result.transport());
+            assertTrue(result.throughput() > 0);
+            assertTrue(result.p50Nanos() <= result.p99Nanos());
+        }
+    }
+}